@@ -24,7 +24,10 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
@@ -68,6 +71,22 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
                                                                             newIsoDateTimeWithUtcTimeZoneFormat(),
                                                                             newIsoDateTimeFormat(),
                                                                             newIsoDateFormat());
+  private static final ZoneId DEFAULT_DATE_FORMATS_TIME_ZONE = DEFAULT_DATE_FORMATS.get(0).getTimeZone().toZoneId();
+  private static volatile boolean lenientDateParsing = false;
+  /**
+   * Copies of {@link #DEFAULT_DATE_FORMATS} as {@link DateFormat} is not thread safe, they parse the date strings
+   * {@link DefaultDateParser} does not handle.
+   */
+  private static final ThreadLocal<List<DateFormat>> defaultDateFormats = new ThreadLocal<List<DateFormat>>() {
+    @Override
+    protected List<DateFormat> initialValue() {
+      List<DateFormat> dateFormats = new ArrayList<>();
+      for (DateFormat defaultDateFormat : DEFAULT_DATE_FORMATS) {
+        dateFormats.add((DateFormat) defaultDateFormat.clone());
+      }
+      return dateFormats;
+    }
+  };
 
   private static final String DATE_FORMAT_PATTERN_SHOULD_NOT_BE_NULL = "Given date format pattern should not be null";
   private static final String DATE_FORMAT_SHOULD_NOT_BE_NULL = "Given date format should not be null";
@@ -2379,9 +2398,7 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
    * @param value whether lenient parsing mode should be enabled or not
    */
   public static void setLenientDateParsing(boolean value) {
-    for (DateFormat defaultDateFormat : DEFAULT_DATE_FORMATS) {
-      defaultDateFormat.setLenient(value);
-    }
+    lenientDateParsing = value;
   }
 
   /**
@@ -2555,9 +2572,19 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
   }
 
   private Date parseDateWithDefaultDateFormats(final String dateAsString) {
-    synchronized (DEFAULT_DATE_FORMATS) {
-      return parseDateWith(dateAsString, DEFAULT_DATE_FORMATS);
+    boolean lenient = lenientDateParsing;
+    if (!lenient) {
+      Date date = DefaultDateParser.parse(dateAsString, DEFAULT_DATE_FORMATS_TIME_ZONE);
+      if (date != null) return date;
     }
+    for (DateFormat dateFormat : defaultDateFormats.get()) {
+      dateFormat.setLenient(lenient);
+      // same as DateFormat.parse(String) without building a ParseException when the date format does not match
+      ParsePosition position = new ParsePosition(0);
+      Date date = dateFormat.parse(dateAsString, position);
+      if (position.getIndex() != 0) return date;
+    }
+    return null;
   }
 
   private List<DateFormat> dateFormatsInOrderOfUsage() {
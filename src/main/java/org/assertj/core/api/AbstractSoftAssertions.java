@@ -98,6 +98,10 @@ public class AbstractSoftAssertions {
 
   /**
    * Returns a copy of list of soft assertions collected errors.
+   * <p>
+   * When several threads use these soft assertions, errors are grouped by thread: threads come in the order they first
+   * used these soft assertions and the errors of a thread in the order that thread collected them.
+   *
    * @return a copy of list of soft assertions collected errors.
    */
   public List<Throwable> errorsCollected() {
@@ -70,9 +70,8 @@ import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.assertj.core.util.CheckReturnValue;
 
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.TypeCache;
-import net.bytebuddy.TypeCache.SimpleKey;
-import net.bytebuddy.TypeCache.Sort;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodDelegation;
@@ -97,7 +96,15 @@ public class Assumptions {
 
   private static final Implementation ASSUMPTION = MethodDelegation.to(AssumptionMethodInterceptor.class);
 
-  private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
+  // assumption classes generated when building AssertJ are loaded, the other ones are generated on first use, both are
+  // kept as long as their assert class is loaded
+  private static final ClassValue<Class<?>> ASSUMPTION_CLASSES = new ClassValue<Class<?>>() {
+    @Override
+    protected Class<?> computeValue(Class<?> assertClass) {
+      Class<?> assumptionClass = PregeneratedClasses.find(assertClass, PregeneratedClasses.ASSUMPTION_SUFFIX);
+      return assumptionClass != null ? assumptionClass : generateAssumptionClass(assertClass);
+    }
+  };
 
   private static final class AssumptionMethodInterceptor {
 
@@ -1106,20 +1113,27 @@ public class Assumptions {
 
   @SuppressWarnings("unchecked")
   private static <ASSERTION> Class<? extends ASSERTION> createAssumptionClass(Class<ASSERTION> assertClass) {
-    SimpleKey cacheKey = new SimpleKey(assertClass);
-    return (Class<ASSERTION>) CACHE.findOrInsert(Assumptions.class.getClassLoader(),
-                                                 cacheKey,
-                                                 () -> generateAssumptionClass(assertClass));
+    return (Class<ASSERTION>) ASSUMPTION_CLASSES.get(assertClass);
   }
 
   protected static <ASSERTION> Class<? extends ASSERTION> generateAssumptionClass(Class<ASSERTION> assertionType) {
-    return BYTE_BUDDY.subclass(assertionType)
-                     // TODO ignore non assertion methods ?
-                     .method(any())
-                     .intercept(ASSUMPTION)
-                     .make()
-                     .load(Assumptions.class.getClassLoader(), classLoadingStrategy(assertionType))
-                     .getLoaded();
+    return assumptionClass(BYTE_BUDDY, assertionType).make()
+                                                     .load(Assumptions.class.getClassLoader(), classLoadingStrategy(assertionType))
+                                                     .getLoaded();
+  }
+
+  static DynamicType.Unloaded<?> pregenerateAssumptionClass(Class<?> assertionType, ClassFileVersion classFileVersion) {
+    return assumptionClass(BYTE_BUDDY.with(classFileVersion), assertionType).name(assertionType.getName()
+                                                                                  + PregeneratedClasses.ASSUMPTION_SUFFIX)
+                                                                            .make();
+  }
+
+  private static <ASSERTION> DynamicType.Builder<ASSERTION> assumptionClass(ByteBuddy byteBuddy,
+                                                                            Class<ASSERTION> assertionType) {
+    return byteBuddy.subclass(assertionType)
+                    // TODO ignore non assertion methods ?
+                    .method(any())
+                    .intercept(ASSUMPTION);
   }
 
   private static RuntimeException assumptionNotMet(AssertionError assertionError) throws ReflectiveOperationException {
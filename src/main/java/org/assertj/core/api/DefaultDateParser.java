@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.time.format.ResolverStyle.STRICT;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+
+/**
+ * Parses the date strings that the strict default date formats of {@link AbstractDateAssert} accept in their most
+ * common shapes, giving the same dates they would give.
+ * <p>
+ * The default date formats are {@code yyyy-MM-dd'T'HH:mm:ss.SSS}, {@code yyyy-MM-dd HH:mm:ss.SSS},
+ * {@code yyyy-MM-dd'T'HH:mm:ssX}, {@code yyyy-MM-dd'T'HH:mm:ss} and {@code yyyy-MM-dd}, tried in this order, each one
+ * ignoring the characters following the ones it has parsed. Instead of trying them in turn, the format that would be
+ * the first to parse a string is picked by checking the positions of the separators and digits in the string, the
+ * string is then parsed with immutable {@link DateTimeFormatter}s.
+ * <p>
+ * {@link #parse(String, ZoneId)} returns {@code null} for the strings it does not handle, they need to be parsed with
+ * the default date formats, this is the case for:
+ * <ul>
+ * <li>strings not having one of the shapes above (e.g. no two digits months or more than three digits milliseconds)</li>
+ * <li>strings having invalid date or time fields (e.g. a 25th hour, which could be parsed by a later format)</li>
+ * <li>dates before 1583 which {@link java.util.GregorianCalendar} interprets in the Julian calendar</li>
+ * <li>local date-times that are skipped or repeated in the time zone at daylight saving time changes</li>
+ * </ul>
+ */
+final class DefaultDateParser {
+
+  private static final DateTimeFormatter ISO_DATE = strictFormatter("uuuu-MM-dd");
+  private static final DateTimeFormatter ISO_DATE_TIME = strictFormatter("uuuu-MM-dd'T'HH:mm:ss");
+  private static final DateTimeFormatter TIMESTAMP = strictFormatter("uuuu-MM-dd HH:mm:ss");
+
+  private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+  private static final int DATE_TIME_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+  private static final int FIRST_GREGORIAN_YEAR = 1583;
+
+  private DefaultDateParser() {}
+
+  /**
+   * Parses the given string as the default date formats of {@link AbstractDateAssert} would do.
+   *
+   * @param dateAsString the string to parse.
+   * @param zone the time zone of the default date formats.
+   * @return the parsed date or {@code null} if the string must be parsed with the default date formats.
+   */
+  static Date parse(String dateAsString, ZoneId zone) {
+    if (!hasDateShape(dateAsString)) return null;
+    try {
+      if (hasDateTimeShape(dateAsString, 'T')) {
+        if (isAt(dateAsString, DATE_TIME_LENGTH, '.')) {
+          // yyyy-MM-dd'T'HH:mm:ss.SSS
+          int millisecondsLength = digitsLength(dateAsString, DATE_TIME_LENGTH + 1);
+          if (millisecondsLength > 3) return null;
+          if (millisecondsLength > 0) {
+            return toDate(dateTime(ISO_DATE_TIME, dateAsString), milliseconds(dateAsString, millisecondsLength), zone);
+          }
+        } else if (isAt(dateAsString, DATE_TIME_LENGTH, 'Z')) {
+          // yyyy-MM-dd'T'HH:mm:ssX
+          return toDate(dateTime(ISO_DATE_TIME, dateAsString), ZoneOffset.UTC);
+        } else if (hasUtcOffsetHoursShape(dateAsString)) {
+          // yyyy-MM-dd'T'HH:mm:ssX, the offset minutes are not parsed by X
+          int offsetHours = Integer.parseInt(dateAsString.substring(DATE_TIME_LENGTH + 1, DATE_TIME_LENGTH + 3));
+          if (offsetHours > 18) return null;
+          if (dateAsString.charAt(DATE_TIME_LENGTH) == '-') offsetHours = -offsetHours;
+          return toDate(dateTime(ISO_DATE_TIME, dateAsString), ZoneOffset.ofHours(offsetHours));
+        } else if (isDigitAt(dateAsString, DATE_TIME_LENGTH)) {
+          return null;
+        }
+        // yyyy-MM-dd'T'HH:mm:ss
+        return toDate(dateTime(ISO_DATE_TIME, dateAsString), 0, zone);
+      }
+      if (hasDateTimeShape(dateAsString, ' ') && isAt(dateAsString, DATE_TIME_LENGTH, '.')) {
+        // yyyy-MM-dd HH:mm:ss.SSS
+        int millisecondsLength = digitsLength(dateAsString, DATE_TIME_LENGTH + 1);
+        if (millisecondsLength > 3) return null;
+        if (millisecondsLength > 0) {
+          return toDate(dateTime(TIMESTAMP, dateAsString), milliseconds(dateAsString, millisecondsLength), zone);
+        }
+      }
+      if (isDigitAt(dateAsString, DATE_LENGTH)) return null;
+      // yyyy-MM-dd
+      LocalDate date = LocalDate.from(ISO_DATE.parse(dateAsString, new ParsePosition(0)));
+      return toDate(date.atStartOfDay(), 0, zone);
+    } catch (DateTimeException e) {
+      // invalid date or time fields
+      return null;
+    }
+  }
+
+  private static DateTimeFormatter strictFormatter(String pattern) {
+    return DateTimeFormatter.ofPattern(pattern).withResolverStyle(STRICT);
+  }
+
+  private static LocalDateTime dateTime(DateTimeFormatter formatter, String dateAsString) {
+    TemporalAccessor parsed = formatter.parse(dateAsString, new ParsePosition(0));
+    return LocalDateTime.from(parsed);
+  }
+
+  private static int milliseconds(String dateAsString, int millisecondsLength) {
+    // SimpleDateFormat reads the milliseconds digits as a number, not as a fraction of second: ".7" is 7ms
+    int start = DATE_TIME_LENGTH + 1;
+    return Integer.parseInt(dateAsString.substring(start, start + millisecondsLength));
+  }
+
+  private static Date toDate(LocalDateTime dateTime, int milliseconds, ZoneId zone) {
+    if (dateTime.getYear() < FIRST_GREGORIAN_YEAR) return null;
+    if (zone.getRules().getValidOffsets(dateTime).size() != 1) return null;
+    return Date.from(dateTime.atZone(zone).toInstant().plusMillis(milliseconds));
+  }
+
+  private static Date toDate(LocalDateTime dateTime, ZoneOffset offset) {
+    if (dateTime.getYear() < FIRST_GREGORIAN_YEAR) return null;
+    return Date.from(dateTime.toInstant(offset));
+  }
+
+  // dddd-dd-dd
+  private static boolean hasDateShape(String s) {
+    return s.length() >= DATE_LENGTH
+           && areDigits(s, 0, 4) && s.charAt(4) == '-' && areDigits(s, 5, 7) && s.charAt(7) == '-' && areDigits(s, 8, 10);
+  }
+
+  // dddd-dd-dd?dd:dd:dd
+  private static boolean hasDateTimeShape(String s, char dateTimeSeparator) {
+    return s.length() >= DATE_TIME_LENGTH
+           && s.charAt(DATE_LENGTH) == dateTimeSeparator
+           && areDigits(s, 11, 13) && s.charAt(13) == ':' && areDigits(s, 14, 16) && s.charAt(16) == ':'
+           && areDigits(s, 17, 19);
+  }
+
+  // +dd or -dd after the date-time
+  private static boolean hasUtcOffsetHoursShape(String s) {
+    return (isAt(s, DATE_TIME_LENGTH, '+') || isAt(s, DATE_TIME_LENGTH, '-'))
+           && s.length() >= DATE_TIME_LENGTH + 3 && areDigits(s, DATE_TIME_LENGTH + 1, DATE_TIME_LENGTH + 3);
+  }
+
+  private static int digitsLength(String s, int start) {
+    int end = start;
+    while (isDigitAt(s, end)) end++;
+    return end - start;
+  }
+
+  private static boolean areDigits(String s, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (!isDigitAt(s, i)) return false;
+    }
+    return true;
+  }
+
+  private static boolean isDigitAt(String s, int index) {
+    return isAt(s, index, '0', '9');
+  }
+
+  private static boolean isAt(String s, int index, char c) {
+    return isAt(s, index, c, c);
+  }
+
+  private static boolean isAt(String s, int index, char from, char to) {
+    if (index >= s.length()) return false;
+    char c = s.charAt(index);
+    return c >= from && c <= to;
+  }
+
+}
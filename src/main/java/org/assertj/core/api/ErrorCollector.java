@@ -12,12 +12,18 @@
  */
 package org.assertj.core.api;
 
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
+
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
@@ -26,18 +32,29 @@ import net.bytebuddy.implementation.bind.annotation.SuperCall;
 import net.bytebuddy.implementation.bind.annotation.SuperMethod;
 import net.bytebuddy.implementation.bind.annotation.This;
 
-/** Collects error messages of all AssertionErrors thrown by the proxied method. */
+/**
+ * Collects error messages of all AssertionErrors thrown by the proxied method.
+ * <p>
+ * Errors can be collected concurrently by different threads. They are reported grouped by thread, threads being in the
+ * order they first used this collector and the errors of a thread in the order that thread collected them. The result of
+ * the last assertion is tracked per thread.
+ */
 public class ErrorCollector {
 
   public static final String FIELD_NAME = "errorCollector";
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  // number of intercept calls in progress on the current thread, a proxied assertion calling other proxied
+  // assertions makes nested calls
+  private static final ThreadLocal<int[]> INTERCEPT_CALLS = ThreadLocal.withInitial(() -> new int[1]);
+
+  // state of the current thread for each collector it used, weak keys let pooled threads forget unused collectors
+  private static final ThreadLocal<Map<ErrorCollector, ThreadState>> THREAD_STATES =
+      ThreadLocal.withInitial(WeakHashMap::new);
 
   // scope : the current softassertion object
-  private final List<Throwable> errors = new ArrayList<>();
-  // scope : the last assertion call (might be nested)
-  private final LastResult lastResult = new LastResult();
+  private final Queue<CollectedError> errors = new ConcurrentLinkedQueue<>();
+  // index given to the next thread using this collector
+  private final AtomicInteger threadCount = new AtomicInteger();
 
   /**
    * @param errorCollector the {@link ErrorCollector} to gather assertions error for the assertion instance
@@ -54,9 +71,11 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    int[] interceptCalls = INTERCEPT_CALLS.get();
+    interceptCalls[0]++;
     try {
       Object result = proxy.call();
-      errorCollector.lastResult.setSuccess(true);
+      errorCollector.threadState().lastResult.setSuccess(true);
       return result;
     } catch (AssertionError assertionError) {
       if (errorCollector.isNestedErrorCollectorProxyCall()) {
@@ -64,6 +83,8 @@ public class ErrorCollector {
         throw assertionError;
       }
       collectAssertionError(assertionError, errorCollector);
+    } finally {
+      interceptCalls[0]--;
     }
     if (method != null && !method.getReturnType().isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
@@ -74,32 +95,79 @@ public class ErrorCollector {
   }
 
   protected static void collectAssertionError(AssertionError error, ErrorCollector errorCollector) {
-    errorCollector.lastResult.setSuccess(false);
-    errorCollector.errors.add(error);
+    ThreadState threadState = errorCollector.threadState();
+    threadState.lastResult.setSuccess(false);
+    errorCollector.errors.add(threadState.collect(error));
   }
 
   public void addError(Throwable error) {
-    errors.add(error);
-    lastResult.recordError();
+    ThreadState threadState = threadState();
+    errors.add(threadState.collect(error));
+    threadState.lastResult.recordError();
   }
 
+  /**
+   * Returns the collected errors grouped by thread, threads being in the order they first used this collector and the
+   * errors of a thread in the order that thread collected them.
+   *
+   * @return the collected errors.
+   */
   public List<Throwable> errors() {
-    return Collections.unmodifiableList(errors);
+    return errors.stream()
+                 .sorted()
+                 .map(collectedError -> collectedError.error)
+                 .collect(collectingAndThen(toList(), Collections::unmodifiableList));
   }
 
   public boolean wasSuccess() {
-    return lastResult.wasSuccess();
+    return threadState().lastResult.wasSuccess();
+  }
+
+  private ThreadState threadState() {
+    return THREAD_STATES.get().computeIfAbsent(this, collector -> new ThreadState(threadCount.getAndIncrement()));
   }
 
   private boolean isNestedErrorCollectorProxyCall() {
     return countErrorCollectorProxyCalls() > 1;
   }
 
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+  private static int countErrorCollectorProxyCalls() {
+    return INTERCEPT_CALLS.get()[0];
+  }
+
+  // scope : the current thread for the current softassertion object
+  private static class ThreadState {
+    private final int threadIndex;
+    private int collectedErrors;
+    // scope : the last assertion call (might be nested) of the current thread
+    private final LastResult lastResult = new LastResult();
+
+    private ThreadState(int threadIndex) {
+      this.threadIndex = threadIndex;
+    }
+
+    private CollectedError collect(Throwable error) {
+      return new CollectedError(error, threadIndex, collectedErrors++);
+    }
+  }
+
+  private static class CollectedError implements Comparable<CollectedError> {
+    private final Throwable error;
+    private final int threadIndex;
+    private final int sequenceNumber;
+
+    private CollectedError(Throwable error, int threadIndex, int sequenceNumber) {
+      this.error = error;
+      this.threadIndex = threadIndex;
+      this.sequenceNumber = sequenceNumber;
+    }
+
+    @Override
+    public int compareTo(CollectedError other) {
+      return threadIndex != other.threadIndex
+          ? Integer.compare(threadIndex, other.threadIndex)
+          : Integer.compare(sequenceNumber, other.sequenceNumber);
+    }
   }
 
   private static class LastResult {
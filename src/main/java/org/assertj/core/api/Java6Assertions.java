@@ -58,6 +58,7 @@ import org.assertj.core.data.Offset;
 import org.assertj.core.data.Percentage;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.PatternCache;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.CanIgnoreReturnValue;
 import org.assertj.core.util.CheckReturnValue;
@@ -1265,6 +1266,21 @@ public class Java6Assertions {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of compiled regular expressions kept in the cache shared by the assertions matching
+   * regular expressions, like {@code matches} or {@code containsPattern}, the default is 256.
+   * <p>
+   * Assertions run in loops with more distinct regular expressions than the cache can hold compile them again and
+   * again, a larger cache avoids that.
+   *
+   * @param maxCachedPatterns the maximum number of compiled regular expressions kept in the cache.
+   * @throws IllegalArgumentException if the given number is not greater than 0.
+   * @since 3.12.0
+   */
+  public static void setMaxCachedPatterns(int maxCachedPatterns) {
+    PatternCache.instance().setCapacity(maxCachedPatterns);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
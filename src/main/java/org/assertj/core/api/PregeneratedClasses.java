@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isPublic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.bytebuddy.ClassFileVersion;
+
+/**
+ * Soft assertion proxies and assumption classes of the AssertJ assert classes, generated when building AssertJ so that
+ * they are loaded from the jar instead of being generated with ByteBuddy on first use.
+ * <p>
+ * {@link #main(String[])} is run by the build once the classes are compiled, {@link SoftProxies} and
+ * {@link Assumptions} look the generated classes up with {@link #find(Class, String)} and fall back to ByteBuddy for
+ * the assert classes that have none (custom assert classes for example).
+ */
+final class PregeneratedClasses {
+
+  static final String SOFT_PROXY_SUFFIX = "$AssertJSoftProxy";
+  static final String ASSUMPTION_SUFFIX = "$AssertJAssumption";
+
+  private static final String API_PACKAGE_DIRECTORY = AbstractAssert.class.getPackage().getName().replace('.', '/');
+  private static final String CLASS_FILE_EXTENSION = ".class";
+
+  private PregeneratedClasses() {}
+
+  /**
+   * Returns the class generated for the given assert class when building AssertJ, {@code null} if there is none.
+   *
+   * @param assertClass the assert class.
+   * @param suffix the suffix of the generated class name, either {@link #SOFT_PROXY_SUFFIX} or {@link #ASSUMPTION_SUFFIX}.
+   * @return the class generated for the given assert class, {@code null} if there is none.
+   */
+  static Class<?> find(Class<?> assertClass, String suffix) {
+    ClassLoader classLoader = assertClass.getClassLoader();
+    if (classLoader == null) return null;
+    try {
+      Class<?> generatedClass = Class.forName(assertClass.getName() + suffix, true, classLoader);
+      // ignore a class left over from a previous build of a different assert class
+      return generatedClass.getSuperclass() == assertClass ? generatedClass : null;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return null;
+    }
+  }
+
+  /**
+   * Generates the soft assertion proxy and the assumption class of each concrete assert class of the
+   * {@code org.assertj.core.api} package in the given classes directory.
+   *
+   * @param args the classes directory.
+   * @throws IOException if the classes directory can't be read or the generated classes can't be written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) throw new IllegalArgumentException("Expecting the classes directory as single argument");
+    File classesDirectory = new File(args[0]);
+    List<String> failures = new ArrayList<>();
+    for (Class<?> assertClass : assertClassesIn(classesDirectory.toPath())) {
+      try {
+        SoftProxies.pregenerateProxyClass(assertClass, ClassFileVersion.JAVA_V8).saveIn(classesDirectory);
+        Assumptions.pregenerateAssumptionClass(assertClass, ClassFileVersion.JAVA_V8).saveIn(classesDirectory);
+      } catch (RuntimeException e) {
+        failures.add(format("%s: %s", assertClass.getName(), e));
+      }
+    }
+    if (!failures.isEmpty())
+      throw new IllegalStateException(format("Failed to generate the classes of:%n%s", String.join(format("%n"), failures)));
+  }
+
+  private static List<Class<?>> assertClassesIn(Path classesDirectory) throws IOException {
+    Path apiPackageDirectory = classesDirectory.resolve(Paths.get(API_PACKAGE_DIRECTORY));
+    try (Stream<Path> classFiles = Files.walk(apiPackageDirectory)) {
+      return classFiles.map(classesDirectory::relativize)
+                       .map(Path::toString)
+                       .filter(path -> path.endsWith(CLASS_FILE_EXTENSION))
+                       .map(PregeneratedClasses::toClassName)
+                       // skip the classes generated by a previous run
+                       .filter(className -> !className.contains("$AssertJ"))
+                       .map(PregeneratedClasses::loadClass)
+                       .filter(PregeneratedClasses::isConcreteAssertClass)
+                       .collect(Collectors.toList());
+    }
+  }
+
+  private static String toClassName(String classFilePath) {
+    return classFilePath.substring(0, classFilePath.length() - CLASS_FILE_EXTENSION.length())
+                        .replace(File.separatorChar, '.');
+  }
+
+  private static Class<?> loadClass(String className) {
+    try {
+      return Class.forName(className, false, PregeneratedClasses.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static boolean isConcreteAssertClass(Class<?> type) {
+    int modifiers = type.getModifiers();
+    return AbstractAssert.class.isAssignableFrom(type) && isPublic(modifiers) && !isAbstract(modifiers)
+           && !isFinal(modifiers);
+  }
+
+}
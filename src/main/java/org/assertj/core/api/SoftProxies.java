@@ -22,11 +22,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.TypeCache;
-import net.bytebuddy.TypeCache.SimpleKey;
-import net.bytebuddy.TypeCache.Sort;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
@@ -78,7 +77,15 @@ class SoftProxies {
   private static final Implementation PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST = MethodDelegation.to(ProxifyMethodChangingTheObjectUnderTest.class);
   private static final Implementation ERROR_COLLECTOR = MethodDelegation.to(ErrorCollector.class);
 
-  private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
+  // proxy classes generated when building AssertJ are loaded, the other ones are generated on first use, both are kept
+  // as long as their assert class is loaded
+  private static final ClassValue<Class<?>> PROXY_CLASSES = new ClassValue<Class<?>>() {
+    @Override
+    protected Class<?> computeValue(Class<?> assertClass) {
+      Class<?> proxyClass = PregeneratedClasses.find(assertClass, PregeneratedClasses.SOFT_PROXY_SUFFIX);
+      return proxyClass != null ? proxyClass : generateProxyClass(assertClass);
+    }
+  };
 
   private final ErrorCollector collector = new ErrorCollector();
 
@@ -110,8 +117,7 @@ class SoftProxies {
 
   @SuppressWarnings("unchecked")
   private static <V> Class<? extends V> createSoftAssertionProxyClass(Class<V> assertClass) {
-    SimpleKey cacheKey = new SimpleKey(assertClass);
-    return (Class<V>) CACHE.findOrInsert(SoftProxies.class.getClassLoader(), cacheKey, () -> generateProxyClass(assertClass));
+    return (Class<V>) PROXY_CLASSES.get(assertClass);
   }
 
   IterableSizeAssert<?> createIterableSizeAssertProxy(IterableSizeAssert<?> iterableSizeAssert) {
@@ -141,25 +147,35 @@ class SoftProxies {
   }
 
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
-    return BYTE_BUDDY.subclass(assertClass)
-                     .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
-                                  ProxifyMethodChangingTheObjectUnderTest.class,
-                                  Visibility.PRIVATE)
-                     .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
-                     .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
-                                  .and(not(METHODS_NOT_TO_PROXY)))
-                     .intercept(ERROR_COLLECTOR)
-                     .implement(AssertJProxySetup.class)
-                     // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
-                     .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
-                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)))
-                     .make()
-                     // Use ClassLoader of soft assertion class to allow ByteBuddy to always find it.
-                     // This is needed in OSGI runtime when custom soft assertion is defined outside of assertj bundle.
-                     .load(assertClass.getClassLoader(), classLoadingStrategy(assertClass))
-                     .getLoaded();
+    return proxyClass(BYTE_BUDDY, assertClass).make()
+                                              // Use ClassLoader of soft assertion class to allow ByteBuddy to always find it.
+                                              // This is needed in OSGI runtime when custom soft assertion is defined outside of
+                                              // assertj bundle.
+                                              .load(assertClass.getClassLoader(), classLoadingStrategy(assertClass))
+                                              .getLoaded();
+  }
+
+  static DynamicType.Unloaded<?> pregenerateProxyClass(Class<?> assertClass, ClassFileVersion classFileVersion) {
+    return proxyClass(BYTE_BUDDY.with(classFileVersion), assertClass).name(assertClass.getName()
+                                                                           + PregeneratedClasses.SOFT_PROXY_SUFFIX)
+                                                                     .make();
+  }
+
+  private static <V> DynamicType.Builder<V> proxyClass(ByteBuddy byteBuddy, Class<V> assertClass) {
+    return byteBuddy.subclass(assertClass)
+                    .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
+                                 ProxifyMethodChangingTheObjectUnderTest.class,
+                                 Visibility.PRIVATE)
+                    .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
+                    .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
+                    .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
+                    .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
+                                 .and(not(METHODS_NOT_TO_PROXY)))
+                    .intercept(ERROR_COLLECTOR)
+                    .implement(AssertJProxySetup.class)
+                    // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
+                    .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
+                                            .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)));
   }
 
   private static Junction<MethodDescription> methodsNamed(String name) {
@@ -1865,6 +1865,21 @@ public interface WithAssertions {
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of compiled regular expressions kept in the cache shared by the assertions matching
+   * regular expressions, like {@code matches} or {@code containsPattern}, the default is 256.
+   * <p>
+   * Assertions run in loops with more distinct regular expressions than the cache can hold compile them again and
+   * again, a larger cache avoids that.
+   *
+   * @param maxCachedPatterns the maximum number of compiled regular expressions kept in the cache.
+   * @throws IllegalArgumentException if the given number is not greater than 0.
+   * @since 3.12.0
+   */
+  default void setMaxCachedPatterns(int maxCachedPatterns) {
+    Assertions.setMaxCachedPatterns(maxCachedPatterns);
+  }
+
   /**
    * Globally sets whether
    * <code>{@link org.assertj.core.api.AbstractIterableAssert#extracting(String) IterableAssert#extracting(String)}</code>
@@ -12,13 +12,18 @@
  */
 package org.assertj.core.api.filter;
 
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Objects.areEqual;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
@@ -60,6 +65,8 @@ public class Filters<E> {
   @VisibleForTesting
   final Iterable<E> initialIterable;
   List<E> filteredIterable;
+  // whether filteredIterable has been returned by get(), if so it must not be filtered in place
+  private boolean filteredIterableReturned;
 
   private final PropertyOrFieldSupport propertyOrFieldSupport = PropertyOrFieldSupport.EXTRACTION;
 
@@ -68,6 +75,11 @@ public class Filters<E> {
    */
   private String propertyOrFieldNameToFilterOn;
 
+  /**
+   * Reads the value of the property used for filtering, resolving the property or field once per element class.
+   */
+  private Function<Object, Object> propertyOrFieldValueExtractor;
+
   /**
    * Creates a new <code>{@link Filters}</code> with the {@link Iterable} to filter.
    * <p>
@@ -196,10 +208,24 @@ public class Filters<E> {
   }
 
   private Filters<E> applyFilterCondition(Condition<? super E> condition) {
-    this.filteredIterable = filteredIterable.stream().filter(condition::matches).collect(toList());
+    return applyFilter(condition::matches);
+  }
+
+  private Filters<E> applyFilter(Predicate<? super E> filter) {
+    if (filteredIterableReturned) {
+      this.filteredIterable = new ArrayList<>(filteredIterable);
+      this.filteredIterableReturned = false;
+    }
+    // filter in place rather than collecting a new list at each step
+    filteredIterable.removeIf(filter.negate());
     return this;
   }
 
+  private Filters<E> applyPropertyValueFilter(Predicate<Object> propertyValueFilter) {
+    checkPropertyNameToFilterOnIsNotNull();
+    return applyFilter(element -> propertyValueFilter.test(propertyOrFieldValueExtractor.apply(element)));
+  }
+
   /**
    * Filter the underlying group, keeping only elements with a property equals to given value.
    * <p>
@@ -218,9 +244,7 @@ public class Filters<E> {
    * @throws IllegalArgumentException if the given propertyOrFieldName is {@code null}.
    */
   public Filters<E> with(String propertyOrFieldName, Object propertyValue) {
-    validatePropertyOrFieldName(propertyOrFieldName);
-    propertyOrFieldNameToFilterOn = propertyOrFieldName;
-    return equalsTo(propertyValue);
+    return with(propertyOrFieldName).equalsTo(propertyValue);
   }
 
   /**
@@ -237,6 +261,7 @@ public class Filters<E> {
   public Filters<E> with(String propertyOrFieldName) {
     validatePropertyOrFieldName(propertyOrFieldName);
     propertyOrFieldNameToFilterOn = propertyOrFieldName;
+    propertyOrFieldValueExtractor = propertyOrFieldSupport.compiledExtractorOf(propertyOrFieldName);
     return this;
   }
 
@@ -269,12 +294,8 @@ public class Filters<E> {
    * @throws IllegalArgumentException if the property name to filter on has not been set.
    */
   public Filters<E> equalsTo(Object propertyValue) {
-    checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = propertyOrFieldSupport.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return areEqual(propertyValueOfCurrentElement, propertyValue);
-    }).collect(toList());
-    return this;
+    return applyPropertyValueFilter(propertyValueOfCurrentElement -> areEqual(propertyValueOfCurrentElement,
+                                                                              propertyValue));
   }
 
   /**
@@ -290,12 +311,8 @@ public class Filters<E> {
    * @throws IllegalArgumentException if the property name to filter on has not been set.
    */
   public Filters<E> notEqualsTo(Object propertyValue) {
-    checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = propertyOrFieldSupport.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return !areEqual(propertyValueOfCurrentElement, propertyValue);
-    }).collect(toList());
-    return this;
+    return applyPropertyValueFilter(propertyValueOfCurrentElement -> !areEqual(propertyValueOfCurrentElement,
+                                                                               propertyValue));
   }
 
   private void checkPropertyNameToFilterOnIsNotNull() {
@@ -316,11 +333,8 @@ public class Filters<E> {
    */
   public Filters<E> in(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = propertyOrFieldSupport.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return isItemInArray(propertyValueOfCurrentElement, propertyValues);
-    }).collect(toList());
-    return this;
+    PropertyValues values = new PropertyValues(propertyValues);
+    return applyPropertyValueFilter(values::contains);
   }
 
   /**
@@ -336,24 +350,8 @@ public class Filters<E> {
    */
   public Filters<E> notIn(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = propertyOrFieldSupport.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return !isItemInArray(propertyValueOfCurrentElement, propertyValues);
-    }).collect(toList());
-    return this;
-  }
-
-  /**
-   * Returns <code>true</code> if given item is in given array, <code>false</code> otherwise.
-   * 
-   * @param item the object to look for in arrayOfValues
-   * @param arrayOfValues the array of values
-   * @return <code>true</code> if given item is in given array, <code>false</code> otherwise.
-   */
-  private static boolean isItemInArray(Object item, Object[] arrayOfValues) {
-    for (Object value : arrayOfValues)
-      if (areEqual(value, item)) return true;
-    return false;
+    PropertyValues values = new PropertyValues(propertyValues);
+    return applyPropertyValueFilter(value -> !values.contains(value));
   }
 
   /**
@@ -362,7 +360,43 @@ public class Filters<E> {
    * @return the Iterable&lt;E&gt; containing the filtered elements.
    */
   public List<E> get() {
+    filteredIterableReturned = true;
     return filteredIterable;
   }
 
+  /**
+   * The values given to {@link #in(Object...)} or {@link #notIn(Object...)}, a property value is in them if one of them
+   * is equal to it according to {@link org.assertj.core.util.Objects#areEqual(Object, Object)}.
+   * <p>
+   * Values of final JDK types with consistent equals/hashCode (and enums) are looked up in a hash set, they can only be
+   * equal to property values of the same type. The other values (arrays, user types, ...) are scanned.
+   */
+  private static final class PropertyValues {
+
+    private final Set<Object> hashedValues = new HashSet<>();
+    private final List<Object> otherValues = new ArrayList<>();
+
+    private PropertyValues(Object[] values) {
+      for (Object value : values) {
+        if (hasConsistentHashCode(value)) hashedValues.add(value);
+        else otherValues.add(value);
+      }
+    }
+
+    private boolean contains(Object propertyValue) {
+      if (hasConsistentHashCode(propertyValue) && hashedValues.contains(propertyValue)) return true;
+      for (Object value : otherValues)
+        if (areEqual(value, propertyValue)) return true;
+      return false;
+    }
+
+    private static boolean hasConsistentHashCode(Object value) {
+      if (value == null) return false;
+      Class<?> type = value.getClass();
+      return value instanceof Enum || type == String.class || type == Boolean.class || type == Character.class
+             || type == Byte.class || type == Short.class || type == Integer.class || type == Long.class
+             || type == Float.class || type == Double.class || type == UUID.class;
+    }
+  }
+
 }
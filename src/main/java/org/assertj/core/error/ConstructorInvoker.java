@@ -12,13 +12,26 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are resolved once per class name and parameter types, a class missing from the classpath is not looked
+ * up again either.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
@@ -27,13 +40,63 @@ public class ConstructorInvoker {
 
   public static final ConstructorInvoker CONSTRUCTOR_INVOKER = new ConstructorInvoker();
 
+  private static final Map<List<Object>, ResolvedConstructor> CONSTRUCTORS = new ConcurrentHashMap<>();
+
   public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    setAccessible(constructor, true);
+    List<Object> key = new ArrayList<>(parameterTypes.length + 1);
+    key.add(className);
+    Collections.addAll(key, parameterTypes);
+    ResolvedConstructor constructor = CONSTRUCTORS.get(key);
+    if (constructor == null) {
+      constructor = resolve(className, parameterTypes);
+      CONSTRUCTORS.put(key, constructor);
+    }
     return constructor.newInstance(parameterValues);
   }
 
+  private ResolvedConstructor resolve(String className, Class<?>[] parameterTypes) {
+    try {
+      Class<?> targetType = Class.forName(className);
+      Constructor<?> constructor = targetType.getConstructor(parameterTypes);
+      setAccessible(constructor, true);
+      MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                                         .asType(methodType(Object.class, parameterTypes))
+                                         .asSpreader(Object[].class, parameterTypes.length);
+      return new ResolvedConstructor(handle, null, null);
+    } catch (ClassNotFoundException | LinkageError e) {
+      return new ResolvedConstructor(null, ClassNotFoundException::new, className);
+    } catch (NoSuchMethodException e) {
+      return new ResolvedConstructor(null, NoSuchMethodException::new, e.getMessage());
+    } catch (IllegalAccessException e) {
+      return new ResolvedConstructor(null, IllegalAccessException::new, e.getMessage());
+    }
+  }
+
+  private static class ResolvedConstructor {
+    private final MethodHandle handle;
+    // a new exception is created for each call, a shared one would keep the stack trace of the first call
+    private final Function<String, ReflectiveOperationException> failure;
+    private final String failureMessage;
+
+    private ResolvedConstructor(MethodHandle handle, Function<String, ReflectiveOperationException> failure,
+                                String failureMessage) {
+      this.handle = handle;
+      this.failure = failure;
+      this.failureMessage = failureMessage;
+    }
+
+    private Object newInstance(Object[] parameterValues) throws Exception {
+      if (handle == null) throw failure.apply(failureMessage);
+      try {
+        return (Object) handle.invokeExact(parameterValues);
+      } catch (Exception | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+  }
+
   private void setAccessible(AccessibleObject accessible, boolean value) {
     AccessController.doPrivileged(new SetAccessibleValueAction(accessible, value));
   }
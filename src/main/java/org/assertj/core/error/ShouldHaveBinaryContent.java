@@ -47,11 +47,11 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
 
   private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
     super("%nFile:%n <%s>%ndoes not have expected binary content at offset <%s>, expecting:%n <%s>%nbut was:%n <%s>", actual,
-        diff.offset, diff.expected, diff.actual);
+        unquotedString(String.valueOf(diff.offset)), diff.expected, diff.actual);
   }
   
   private ShouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
     super("%nPath:%n <%s>%ndoes not have expected binary content at offset <%s>, expecting:%n <%s>%nbut was:%n <%s>", actual,
-        diff.offset, diff.expected, diff.actual);
+        unquotedString(String.valueOf(diff.offset)), diff.expected, diff.actual);
   }
 }
@@ -24,9 +24,12 @@ import org.assertj.core.groups.Tuple;
 public class ByNameMultipleExtractor<T> implements Function<T, Tuple>{
 
   private final String[] fieldsOrProperties;
+  // reused across inputs so that each extractor resolves its property or field once per class
+  private final List<Function<T, Object>> extractors;
 
   public ByNameMultipleExtractor(String... fieldsOrProperties) {
     this.fieldsOrProperties = fieldsOrProperties;
+    this.extractors = fieldsOrProperties == null ? null : buildExtractors();
   }
 
   @Override
@@ -35,14 +38,17 @@ public class ByNameMultipleExtractor<T> implements Function<T, Tuple>{
     checkArgument(fieldsOrProperties.length > 0, "The names of the fields/properties to read should not be empty");
     checkArgument(input != null, "The object to extract fields/properties from should not be null");
 
-    List<Function<T, Object>> extractors = buildExtractors();
-    List<Object> values = extractValues(input, extractors);
+    Object[] values = extractValues(input, extractors);
     
-    return new Tuple(values.toArray());
+    return new Tuple(values);
   }
 
-  private List<Object> extractValues(T input, List<Function<T, Object>> singleExtractors) {
-    return singleExtractors.stream().map(extractor -> extractor.apply(input)).collect(toList());
+  private Object[] extractValues(T input, List<Function<T, Object>> singleExtractors) {
+    Object[] values = new Object[singleExtractors.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = singleExtractors.get(i).apply(input);
+    }
+    return values;
   }
 
   private List<Function<T, Object>> buildExtractors() {
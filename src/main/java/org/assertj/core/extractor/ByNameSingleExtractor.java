@@ -23,6 +23,8 @@ import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 class ByNameSingleExtractor<T> implements Function<T, Object> {
 
   private final String propertyOrFieldName;
+  // built on first use once the name is known to be valid
+  private Function<Object, Object> compiledExtractor;
 
   @VisibleForTesting
   ByNameSingleExtractor(String propertyOrFieldName) {
@@ -41,7 +43,10 @@ class ByNameSingleExtractor<T> implements Function<T, Object> {
       return map.get(propertyOrFieldName);
     }
 
-    return PropertyOrFieldSupport.EXTRACTION.getValueOf(propertyOrFieldName, input);
+    if (compiledExtractor == null) {
+      compiledExtractor = PropertyOrFieldSupport.EXTRACTION.compiledExtractorOf(propertyOrFieldName);
+    }
+    return compiledExtractor.apply(input);
   }
 
 }
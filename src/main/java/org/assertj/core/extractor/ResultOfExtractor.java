@@ -26,7 +26,9 @@ import org.assertj.core.util.introspection.MethodSupport;
 class ResultOfExtractor<F> implements Function<F, Object> {
 
   private final String methodName;
-  
+  // built on first use, resolves the method once per class
+  private Function<Object, Object> compiledExtractor;
+
   ResultOfExtractor(String methodName) {
     this.methodName = methodName;
   }
@@ -36,7 +38,8 @@ class ResultOfExtractor<F> implements Function<F, Object> {
    */
   @Override
   public Object apply(F input) {
-    return MethodSupport.methodResultFor(input, methodName);
+    if (compiledExtractor == null) compiledExtractor = MethodSupport.compiledMethodResultExtractorOf(methodName);
+    return compiledExtractor.apply(input);
   }
 
 }
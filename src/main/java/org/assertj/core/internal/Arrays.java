@@ -67,6 +67,13 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.IterableDiff.diffIgnoringDuplicates;
+import static org.assertj.core.internal.IterableDiff.unexpectedIgnoringDuplicates;
+import static org.assertj.core.internal.PrimitiveArrays.elementsEqualityOf;
+import static org.assertj.core.internal.PrimitiveArrays.indexOfFirstUnsortedElement;
+import static org.assertj.core.internal.PrimitiveArrays.isPrimitiveArray;
+import static org.assertj.core.internal.Sequences.containsSequence;
+import static org.assertj.core.internal.Sequences.indexOfSequence;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.prepend;
@@ -77,7 +84,6 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -196,10 +202,10 @@ public class Arrays {
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
+    ElementsEquality elementsEquality = elementsEquality(actual, values);
     int valueCount = sizeOf(values);
     for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
+      if (!arrayContains(actual, elementsEquality, i)) notFound.add(Array.get(values, i));
     }
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -242,19 +248,10 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterableRemoves(notExpected, value);
-        iterableRemoves(notFound, value);
-      }
-    }
-
-    if (!notExpected.isEmpty() || !notFound.isEmpty()) {
+    IterableDiff diff = diffIgnoringDuplicates(asList(actual), asList(values), comparisonStrategy);
+    if (diff.differencesFound()) {
       throw failures.failure(info, shouldContainOnly(actual, values,
-                                                     notFound, notExpected,
+                                                     diff.missing, diff.unexpected,
                                                      comparisonStrategy));
     }
   }
@@ -296,20 +293,11 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
+    IterableDiff diff = diff(asList(actual), asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
-
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
-
-    throw failures.failure(info,
-                           shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+    throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected,
+                                                                comparisonStrategy));
   }
 
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
@@ -337,58 +325,24 @@ public class Arrays {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  private void iterablesRemoveFirst(Collection<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
-
-  /**
-   * Delegates to {@link ComparisonStrategy#iterableRemoves(Iterable, Object)}
-   */
-  private void iterableRemoves(Collection<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
-  }
-
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
-    }
+    if (containsSequence(sizeOf(actual), sizeOf(sequence), elementsEquality(actual, sequence),
+                         elementsEquality(sequence, sequence), comparisonStrategy.isStandard()))
+      return;
     throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
 
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) {
-        throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
-      }
+    int sequenceIndex = indexOfSequence(sizeOf(actual), sizeOf(sequence), elementsEquality(actual, sequence),
+                                        elementsEquality(sequence, sequence), comparisonStrategy.isStandard());
+    if (sequenceIndex != -1) {
+      throw failures.failure(info, shouldNotContainSequence(actual, sequence, sequenceIndex, comparisonStrategy));
     }
   }
 
-  /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   * 
-   * 
-   * @param actualStartIndex the index to start looking for sequence in actualArray
-   * @param actualArray the actual array to search sequence in
-   * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
-    int sequenceSize = sizeOf(sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex)))
-        continue;
-      return false;
-    }
-    return true;
-  }
-
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
     if (commonChecks(info, actual, subsequence)) return;
 
@@ -398,10 +352,11 @@ public class Arrays {
     // subsequence
     int lastIndexWhereEndOfSubsequenceCanBeFound = sizeOfActual - sizeOfSubsequence;
 
+    ElementsEquality elementsEquality = elementsEquality(actual, subsequence);
     int actualIndex = 0;
     int subsequenceIndex = 0;
     while (actualIndex <= lastIndexWhereEndOfSubsequenceCanBeFound && subsequenceIndex < sizeOfSubsequence) {
-      if (areEqual(Array.get(actual, actualIndex), Array.get(subsequence, subsequenceIndex))) {
+      if (elementsEquality.areEqual(actualIndex, subsequenceIndex)) {
         subsequenceIndex++;
         lastIndexWhereEndOfSubsequenceCanBeFound++;
       }
@@ -438,12 +393,13 @@ public class Arrays {
     // subsequence
     int lastIndexWhereEndOfSubsequenceCanBeFound = sizeOfActual - sizeOfSubsequence;
 
+    ElementsEquality elementsEquality = elementsEquality(actual, subsequence);
     int actualIndex = 0;
     int subsequenceIndex = 0;
     int subsequenceStartIndex = 0;
 
     while (actualIndex <= lastIndexWhereEndOfSubsequenceCanBeFound && subsequenceIndex < sizeOfSubsequence) {
-      if (areEqual(Array.get(actual, actualIndex), Array.get(subsequence, subsequenceIndex))) {
+      if (elementsEquality.areEqual(actualIndex, subsequenceIndex)) {
         if (subsequenceIndex == 0) {
           subsequenceStartIndex = actualIndex;
         }
@@ -466,14 +422,38 @@ public class Arrays {
     return comparisonStrategy.areEqual(actual, other);
   }
 
+  /**
+   * Returns an {@link ElementsEquality} comparing elements of the given arrays with {@link #areEqual(Object, Object)},
+   * primitive arrays elements are compared without being boxed when the comparison strategy is the standard one.
+   */
+  private ElementsEquality elementsEquality(Object first, Object second) {
+    if (comparisonStrategy.isStandard()) {
+      ElementsEquality primitiveElementsEquality = elementsEqualityOf(first, second);
+      if (primitiveElementsEquality != null) return primitiveElementsEquality;
+    }
+    return (firstIndex, secondIndex) -> areEqual(Array.get(first, firstIndex), Array.get(second, secondIndex));
+  }
+
+  /**
+   * Same as {@link #arrayContains(Object, Object)} for the element at the given index of the second array of the given
+   * {@link ElementsEquality}, the array being the first one.
+   */
+  private static boolean arrayContains(Object array, ElementsEquality elementsEquality, int valueIndex) {
+    int arraySize = sizeOf(array);
+    for (int i = 0; i < arraySize; i++) {
+      if (elementsEquality.areEqual(i, valueIndex)) return true;
+    }
+    return false;
+  }
+
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
     Set<Object> found = new LinkedHashSet<>();
+    ElementsEquality elementsEquality = elementsEquality(array, values);
     int valuesSize = sizeOf(values);
     for (int i = 0; i < valuesSize; i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+      if (arrayContains(array, elementsEquality, i)) found.add(Array.get(values, i));
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
@@ -499,8 +479,9 @@ public class Arrays {
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
+    ElementsEquality elementsEquality = elementsEquality(sequence, actual);
     for (int i = 0; i < sequenceSize; i++) {
-      if (!areEqual(Array.get(sequence, i), Array.get(actual, i)))
+      if (!elementsEquality.areEqual(i, i))
         throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
     }
   }
@@ -534,10 +515,11 @@ public class Arrays {
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
+    ElementsEquality elementsEquality = elementsEquality(sequence, actual);
     for (int i = 0; i < sequenceSize; i++) {
       int sequenceIndex = sequenceSize - (i + 1);
       int arrayIndex = arraySize - (i + 1);
-      if (!areEqual(Array.get(sequence, sequenceIndex), Array.get(actual, arrayIndex)))
+      if (!elementsEquality.areEqual(sequenceIndex, arrayIndex))
         throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
     }
   }
@@ -545,14 +527,7 @@ public class Arrays {
   public void assertIsSubsetOf(AssertionInfo info, Failures failures, Object actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = newArrayList();
-    int sizeOfActual = sizeOf(actual);
-    for (int i = 0; i < sizeOfActual; i++) {
-      Object actualElement = Array.get(actual, i);
-      if (!iterableContains(values, actualElement)) {
-        extra.add(actualElement);
-      }
-    }
+    List<Object> extra = unexpectedIgnoringDuplicates(asList(actual), values, comparisonStrategy);
     if (extra.size() > 0) {
       throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
     }
@@ -691,6 +666,12 @@ public class Arrays {
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
     assertThatArrayComponentTypeIsSortable(info, failures, array);
+    if (isPrimitiveArray(array)) {
+      // compare primitive elements directly instead of boxing them all
+      int unsortedElementIndex = indexOfFirstUnsortedElement(array);
+      if (unsortedElementIndex != -1) throw failures.failure(info, shouldBeSorted(unsortedElementIndex, array));
+      return;
+    }
     try {
       // sorted assertion is only relevant if array elements are Comparable
       // => we should be able to build a Comparable array
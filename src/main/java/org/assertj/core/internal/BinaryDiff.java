@@ -12,24 +12,40 @@
  */
 package org.assertj.core.internal;
 
-import java.io.ByteArrayInputStream;
+import static java.lang.invoke.MethodType.methodType;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.assertj.core.util.VisibleForTesting;
 
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * Contents are compared by blocks, several bytes at a time.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int EOF = -1;
+  @VisibleForTesting
+  static final int BLOCK_SIZE = 64 * 1024;
+  // java.util.Arrays.mismatch(byte[], int, int, byte[], int, int) when running on Java 9+
+  private static final MethodHandle ARRAYS_MISMATCH = arraysMismatch();
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
@@ -37,21 +53,153 @@ public class BinaryDiff {
 
   @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream expectedStream = new ByteArrayInputStream(expected);
-        InputStream actualStream = Files.newInputStream(actual)) {
-      return diff(actualStream, expectedStream);
+    try (SeekableByteChannel actualChannel = Files.newByteChannel(actual)) {
+      return diff(contentOf(actualChannel), contentOf(expected));
+    }
+  }
+
+  /**
+   * Returns whether the given paths have the same binary content, their sizes are compared first so that files with
+   * different sizes are not read.
+   * <p>
+   * Some files report a size of 0 while having content (e.g. in {@code /proc}), they are always read.
+   *
+   * @param actual the actual path.
+   * @param expected the expected path.
+   * @return whether the given paths have the same binary content.
+   * @throws IOException if an I/O error occurs.
+   */
+  public boolean haveSameContent(Path actual, Path expected) throws IOException {
+    long actualSize = Files.size(actual);
+    long expectedSize = Files.size(expected);
+    if (actualSize != 0 && expectedSize != 0 && actualSize != expectedSize) return false;
+    return diff(actual, expected).hasNoDiff();
+  }
+
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    try (SeekableByteChannel actualChannel = Files.newByteChannel(actual);
+        SeekableByteChannel expectedChannel = Files.newByteChannel(expected)) {
+      return diff(contentOf(actualChannel), contentOf(expectedChannel));
     }
   }
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    return diff(contentOf(actualStream), contentOf(expectedStream));
+  }
+
+  private static BinaryDiffResult diff(Content actual, Content expected) throws IOException {
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    byte[] expectedBlock = new byte[BLOCK_SIZE];
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = actual.read(actualBlock);
+      int expectedLength = expected.read(expectedBlock);
+      int commonLength = Math.min(actualLength, expectedLength);
+      int index = mismatch(actualBlock, expectedBlock, commonLength);
+      if (index == EOF && actualLength != expectedLength) index = commonLength; // one content is longer than the other
+      if (index != EOF) {
+        return new BinaryDiffResult(offset + index, byteAt(index, expectedBlock, expectedLength),
+                                    byteAt(index, actualBlock, actualLength));
+      }
+      if (actualLength < BLOCK_SIZE) return BinaryDiffResult.noDiff(); // reached end of both contents
+      offset += BLOCK_SIZE;
+    }
+  }
+
+  /**
+   * Returns the index of the first different byte in the first {@code length} bytes of the given arrays, -1 if there
+   * are none.
+   */
+  @VisibleForTesting
+  static int mismatch(byte[] actual, byte[] expected, int length) {
+    if (ARRAYS_MISMATCH != null) {
+      try {
+        return (int) ARRAYS_MISMATCH.invokeExact(actual, 0, length, expected, 0, length);
+      } catch (Throwable e) {
+        // can't happen as the arguments are valid, use the fallback below
+      }
+    }
+    return mismatchByWords(actual, expected, length);
+  }
+
+  @VisibleForTesting
+  static int mismatchByWords(byte[] actual, byte[] expected, int length) {
+    // compare 8 bytes at a time, then find the different byte in the different words
+    ByteBuffer actualBuffer = ByteBuffer.wrap(actual).order(ByteOrder.nativeOrder());
+    ByteBuffer expectedBuffer = ByteBuffer.wrap(expected).order(ByteOrder.nativeOrder());
+    int i = 0;
+    for (; i <= length - Long.BYTES; i += Long.BYTES) {
+      if (actualBuffer.getLong(i) != expectedBuffer.getLong(i)) break;
+    }
+    for (; i < length; i++) {
+      if (actual[i] != expected[i]) return i;
     }
+    return EOF;
+  }
+
+  private static int byteAt(int index, byte[] block, int length) {
+    return index < length ? block[index] & 0xFF : EOF;
+  }
+
+  private static MethodHandle arraysMismatch() {
+    try {
+      return MethodHandles.publicLookup().findStatic(Arrays.class, "mismatch",
+                                                     methodType(int.class, byte[].class, int.class, int.class,
+                                                                byte[].class, int.class, int.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static Content contentOf(InputStream stream) {
+    return block -> {
+      int length = 0;
+      while (length < block.length) {
+        int read = stream.read(block, length, block.length - length);
+        if (read == EOF) break;
+        length += read;
+      }
+      return length;
+    };
+  }
+
+  private static Content contentOf(ReadableByteChannel channel) {
+    return block -> {
+      ByteBuffer buffer = ByteBuffer.wrap(block);
+      while (buffer.hasRemaining() && channel.read(buffer) != EOF) {
+        // keep on reading until the block is full or the end of the channel is reached
+      }
+      return buffer.position();
+    };
+  }
+
+  private static Content contentOf(byte[] bytes) {
+    return new Content() {
+      private int position = 0;
+
+      @Override
+      public int read(byte[] block) {
+        int length = Math.min(block.length, bytes.length - position);
+        System.arraycopy(bytes, position, block, 0, length);
+        position += length;
+        return length;
+      }
+    };
+  }
+
+  /**
+   * Binary content read block by block.
+   */
+  private interface Content {
+    /**
+     * Reads the next bytes of the content into the given block.
+     *
+     * @param block where to store the read bytes.
+     * @return the number of read bytes, less than the block length only once the end of the content is reached.
+     * @throws IOException if the content can't be read.
+     */
+    int read(byte[] block) throws IOException;
   }
 }
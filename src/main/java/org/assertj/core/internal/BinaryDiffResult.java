@@ -20,7 +20,7 @@ package org.assertj.core.internal;
 public class BinaryDiffResult {
   private static final int EOF = -1;
 
-  public final int offset;
+  public final long offset;
   public final String expected;
   public final String actual;
   
@@ -31,7 +31,7 @@ public class BinaryDiffResult {
    * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
    * @param actual the actual byte in the same format.
    */
-  public BinaryDiffResult(int offset, int expected, int actual) {
+  public BinaryDiffResult(long offset, int expected, int actual) {
     this.offset = offset;
     this.expected = describe(expected);
     this.actual = describe(actual);
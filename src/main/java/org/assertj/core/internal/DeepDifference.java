@@ -13,6 +13,9 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableSet;
 import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
 import static org.assertj.core.internal.Objects.propertyOrFieldValuesAreEqual;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
@@ -22,6 +25,7 @@ import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARI
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -38,7 +42,11 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.Introspection;
 
 /**
  * Tests two objects for differences by doing a 'deep' comparison.
@@ -51,17 +59,111 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DeepDifference {
 
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these:%s";
-  private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
-  private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
+  private static final ClassValue<Boolean> customEquals = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> c) {
+      return declaresMethodBelowObject(c, "equals", Object.class);
+    }
+  };
+  private static final ClassValue<Boolean> customHash = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> c) {
+      return declaresMethodBelowObject(c, "hashCode");
+    }
+  };
+  private static final ClassValue<ComparedFields> comparedFields = new ClassValue<ComparedFields>() {
+    @Override
+    protected ComparedFields computeValue(Class<?> c) {
+      return new ComparedFields(c);
+    }
+  };
+
+  /**
+   * Names of the fields compared for a class along with the readers of their values, computed once per class instead
+   * of introspecting the class for each compared object.
+   */
+  private static final class ComparedFields {
+
+    private final Set<String> names;
+    // readers depend on the introspection settings, they are kept for each combination of them
+    private final AtomicReferenceArray<Map<String, Function<Object, Object>>> readersBySettings = new AtomicReferenceArray<>(4);
+
+    private ComparedFields(Class<?> c) {
+      names = unmodifiableSet(getFieldsNames(getDeclaredFieldsIncludingInherited(c)));
+    }
+
+    private Object valueOf(String fieldName, Object object) {
+      return readers().get(fieldName).apply(object);
+    }
+
+    private Map<String, Function<Object, Object>> readers() {
+      // private fields being allowed or not and bare name methods being getters or not
+      int settings = (FieldSupport.comparison().isAllowedToUsePrivateFields() ? 1 : 0)
+                     | (Introspection.canExtractBareNamePropertyMethods() ? 2 : 0);
+      Map<String, Function<Object, Object>> readers = readersBySettings.get(settings);
+      if (readers == null) {
+        readers = newReaders();
+        readersBySettings.set(settings, readers);
+      }
+      return readers;
+    }
+
+    private Map<String, Function<Object, Object>> newReaders() {
+      Map<String, Function<Object, Object>> readers = new HashMap<>();
+      for (String name : names) {
+        readers.put(name, COMPARISON.compiledExtractorOf(name));
+      }
+      return readers;
+    }
+  }
+
+  /**
+   * The location of compared values in the object graphs, it only references its parent location so that creating
+   * the location of a field takes constant time and memory whatever its depth, the path is rendered when needed.
+   */
+  private final static class Location {
+
+    private final Location parent;
+    private final String fieldName;
+    private final int depth;
+    private String concatenatedPath;
+
+    private Location(Location parent, String fieldName) {
+      this.parent = parent;
+      this.fieldName = fieldName;
+      this.depth = parent == null ? 0 : parent.depth + 1;
+    }
+
+    private static Location root() {
+      return new Location(null, null);
+    }
+
+    private Location field(String fieldName) {
+      return new Location(this, fieldName);
+    }
+
+    private List<String> toList() {
+      String[] path = new String[depth];
+      for (Location location = this; location.parent != null; location = location.parent) {
+        path[location.depth - 1] = location.fieldName;
+      }
+      return new ArrayList<>(asList(path));
+    }
+
+    private String getConcatenatedPath() {
+      if (concatenatedPath == null) concatenatedPath = join(toList()).with(".");
+      return concatenatedPath;
+    }
+  }
 
   private final static class DualKey {
 
-    private final List<String> path;
+    private final Location location;
     private final Object key1;
     private final Object key2;
 
-    private DualKey(List<String> path, Object key1, Object key2) {
-      this.path = path;
+    private DualKey(Location location, Object key1, Object key2) {
+      this.location = location;
       this.key1 = key1;
       this.key2 = key2;
     }
@@ -78,9 +180,8 @@ public class DeepDifference {
 
     @Override
     public int hashCode() {
-      int h1 = key1 != null ? key1.hashCode() : 0;
-      int h2 = key2 != null ? key2.hashCode() : 0;
-      return h1 + h2;
+      // consistent with equals which compares keys by identity, this also avoids computing deep hash codes of keys
+      return System.identityHashCode(key1) + System.identityHashCode(key2);
     }
 
     @Override
@@ -89,11 +190,11 @@ public class DeepDifference {
     }
 
     public List<String> getPath() {
-      return path;
+      return location.toList();
     }
 
     public String getConcatenatedPath() {
-      return join(path).with(".");
+      return location.getConcatenatedPath();
     }
   }
 
@@ -169,21 +270,22 @@ public class DeepDifference {
         ? new TreeMap<>()
         : comparatorByPropertyOrField;
     comparatorByType = comparatorByType == null ? defaultTypeComparators() : comparatorByType;
-    return determineDifferences(a, b, null, comparatorByPropertyOrField, comparatorByType);
+    return determineDifferences(a, b, null, comparatorByPropertyOrField, comparatorByType, false);
   }
 
-  private static List<Difference> determineDifferences(Object a, Object b, List<String> parentPath,
+  private static List<Difference> determineDifferences(Object a, Object b, Location parentLocation,
                                                        Map<String, Comparator<?>> comparatorByPropertyOrField,
-                                                       TypeComparators comparatorByType) {
+                                                       TypeComparators comparatorByType,
+                                                       boolean stopAtFirstDifference) {
     final Set<DualKey> visited = new HashSet<>();
-    final Deque<DualKey> toCompare = initStack(a, b, parentPath, comparatorByPropertyOrField, comparatorByType);
+    final Deque<DualKey> toCompare = initStack(a, b, parentLocation, comparatorByPropertyOrField, comparatorByType);
     final List<Difference> differences = new ArrayList<>();
 
-    while (!toCompare.isEmpty()) {
+    while (!toCompare.isEmpty() && !(stopAtFirstDifference && !differences.isEmpty())) {
       final DualKey dualKey = toCompare.removeFirst();
       visited.add(dualKey);
 
-      final List<String> currentPath = dualKey.getPath();
+      final Location currentLocation = dualKey.location;
       final Object key1 = dualKey.key1;
       final Object key2 = dualKey.key2;
 
@@ -198,47 +300,47 @@ public class DeepDifference {
       }
 
       if (key1 == null || key2 == null) {
-        differences.add(new Difference(currentPath, key1, key2));
+        differences.add(new Difference(dualKey.getPath(), key1, key2));
         continue;
       }
 
       if (key1 instanceof Collection) {
         if (!(key2 instanceof Collection)) {
-          differences.add(new Difference(currentPath, key1, key2));
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
       } else if (key2 instanceof Collection) {
-        differences.add(new Difference(currentPath, key1, key2));
+        differences.add(new Difference(dualKey.getPath(), key1, key2));
         continue;
       }
 
       if (key1 instanceof SortedSet) {
         if (!(key2 instanceof SortedSet)) {
-          differences.add(new Difference(currentPath, key1, key2));
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
       } else if (key2 instanceof SortedSet) {
-        differences.add(new Difference(currentPath, key1, key2));
+        differences.add(new Difference(dualKey.getPath(), key1, key2));
         continue;
       }
 
       if (key1 instanceof SortedMap) {
         if (!(key2 instanceof SortedMap)) {
-          differences.add(new Difference(currentPath, key1, key2));
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
       } else if (key2 instanceof SortedMap) {
-        differences.add(new Difference(currentPath, key1, key2));
+        differences.add(new Difference(dualKey.getPath(), key1, key2));
         continue;
       }
 
       if (key1 instanceof Map) {
         if (!(key2 instanceof Map)) {
-          differences.add(new Difference(currentPath, key1, key2));
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
       } else if (key2 instanceof Map) {
-        differences.add(new Difference(currentPath, key1, key2));
+        differences.add(new Difference(dualKey.getPath(), key1, key2));
         continue;
       }
 
@@ -246,8 +348,8 @@ public class DeepDifference {
       // same length, be of the same type, be in the same order, and all
       // elements within the array must be deeply equivalent.
       if (key1.getClass().isArray()) {
-        if (!compareArrays(key1, key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
+        if (!compareArrays(key1, key2, currentLocation, toCompare, visited)) {
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
         continue;
@@ -256,8 +358,8 @@ public class DeepDifference {
       // Special handle SortedSets because they are fast to compare
       // because their elements must be in the same order to be equivalent Sets.
       if (key1 instanceof SortedSet) {
-        if (!compareOrderedCollection((Collection<?>) key1, (Collection<?>) key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
+        if (!compareOrderedCollection((Collection<?>) key1, (Collection<?>) key2, currentLocation, toCompare, visited)) {
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
         continue;
@@ -265,8 +367,8 @@ public class DeepDifference {
 
       // Check List, as element order matters this comparison is faster than using unordered comparison.
       if (key1 instanceof List) {
-        if (!compareOrderedCollection((Collection<?>) key1, (Collection<?>) key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
+        if (!compareOrderedCollection((Collection<?>) key1, (Collection<?>) key2, currentLocation, toCompare, visited)) {
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
         continue;
@@ -274,9 +376,9 @@ public class DeepDifference {
 
       // Handle unordered Collection.
       if (key1 instanceof Collection) {
-        if (!compareUnorderedCollection((Collection<?>) key1, (Collection<?>) key2, currentPath, toCompare,
+        if (!compareUnorderedCollection((Collection<?>) key1, (Collection<?>) key2, currentLocation, toCompare,
                                         visited, comparatorByPropertyOrField, comparatorByType)) {
-          differences.add(new Difference(currentPath, key1, key2));
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
         continue;
@@ -285,8 +387,8 @@ public class DeepDifference {
       // Compare two SortedMaps. This takes advantage of the fact that these
       // Maps can be compared in O(N) time due to their ordering.
       if (key1 instanceof SortedMap) {
-        if (!compareSortedMap((SortedMap<?, ?>) key1, (SortedMap<?, ?>) key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
+        if (!compareSortedMap((SortedMap<?, ?>) key1, (SortedMap<?, ?>) key2, currentLocation, toCompare, visited)) {
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
         continue;
@@ -296,8 +398,8 @@ public class DeepDifference {
       // order cannot be assumed, therefore a temporary Map must be created, however the
       // comparison still runs in O(N) time.
       if (key1 instanceof Map) {
-        if (!compareUnorderedMap((Map<?, ?>) key1, (Map<?, ?>) key2, currentPath, toCompare, visited)) {
-          differences.add(new Difference(currentPath, key1, key2));
+        if (!compareUnorderedMap((Map<?, ?>) key1, (Map<?, ?>) key2, currentLocation, toCompare, visited)) {
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
         continue;
@@ -305,15 +407,17 @@ public class DeepDifference {
 
       if (hasCustomEquals(key1.getClass())) {
         if (!key1.equals(key2)) {
-          differences.add(new Difference(currentPath, key1, key2));
+          differences.add(new Difference(dualKey.getPath(), key1, key2));
           continue;
         }
         continue;
       }
 
-      Set<String> key1FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key1.getClass()));
-      Set<String> key2FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key2.getClass()));
-      if (!key2FieldsNames.containsAll(key1FieldsNames)) {
+      ComparedFields key1Fields = comparedFields.get(key1.getClass());
+      ComparedFields key2Fields = comparedFields.get(key2.getClass());
+      Set<String> key1FieldsNames = key1Fields.names;
+      Set<String> key2FieldsNames = key2Fields.names;
+      if (key1Fields != key2Fields && !key2FieldsNames.containsAll(key1FieldsNames)) {
         Set<String> key1FieldsNamesNotInKey2 = newHashSet(key1FieldsNames);
         key1FieldsNamesNotInKey2.removeAll(key2FieldsNames);
         String missingFields = key1FieldsNamesNotInKey2.toString();
@@ -321,14 +425,12 @@ public class DeepDifference {
         String key1ClassName = key1.getClass().getName();
         String missingFieldsDescription = format(MISSING_FIELDS, key1ClassName, key2ClassName, key2.getClass().getSimpleName(),
                                                  key1.getClass().getSimpleName(), missingFields);
-        differences.add(new Difference(currentPath, key1, key2, missingFieldsDescription));
+        differences.add(new Difference(dualKey.getPath(), key1, key2, missingFieldsDescription));
       } else {
         for (String fieldName : key1FieldsNames) {
-          List<String> path = new ArrayList<>(currentPath);
-          path.add(fieldName);
-          DualKey dk = new DualKey(path,
-                                   COMPARISON.getSimpleValue(fieldName, key1),
-                                   COMPARISON.getSimpleValue(fieldName, key2));
+          DualKey dk = new DualKey(currentLocation.field(fieldName),
+                                   key1Fields.valueOf(fieldName, key1),
+                                   key2Fields.valueOf(fieldName, key2));
           if (!visited.contains(dk)) {
             toCompare.addFirst(dk);
           }
@@ -341,35 +443,34 @@ public class DeepDifference {
 
   private static boolean hasCustomComparator(DualKey dualKey, Map<String, Comparator<?>> comparatorByPropertyOrField,
                                              TypeComparators comparatorByType) {
-    String fieldName = dualKey.getConcatenatedPath();
-    if (comparatorByPropertyOrField.containsKey(fieldName)) return true;
+    if (!comparatorByPropertyOrField.isEmpty()
+        && comparatorByPropertyOrField.containsKey(dualKey.getConcatenatedPath())) return true;
     // we know that dualKey.key1 != dualKey.key2 at this point, so one the key is not null
     Class<?> keyType = dualKey.key1 != null ? dualKey.key1.getClass() : dualKey.key2.getClass();
     return comparatorByType.get(keyType) != null;
   }
 
-  private static Deque<DualKey> initStack(Object a, Object b, List<String> parentPath,
+  private static Deque<DualKey> initStack(Object a, Object b, Location parentLocation,
                                           Map<String, Comparator<?>> comparatorByPropertyOrField,
                                           TypeComparators comparatorByType) {
-    Deque<DualKey> stack = new LinkedList<>();
-    boolean isRootObject = parentPath == null;
-    List<String> currentPath = isRootObject ? new ArrayList<>() : parentPath;
-    DualKey basicDualKey = new DualKey(currentPath, a, b);
+    Deque<DualKey> stack = new ArrayDeque<>();
+    boolean isRootObject = parentLocation == null;
+    Location currentLocation = isRootObject ? Location.root() : parentLocation;
+    DualKey basicDualKey = new DualKey(currentLocation, a, b);
     if (a != null && b != null && !isContainerType(a) && !isContainerType(b)
         && (isRootObject || !hasCustomComparator(basicDualKey, comparatorByPropertyOrField, comparatorByType))) {
       // disregard the equals method and start comparing fields
-      Set<String> aFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(a.getClass()));
+      ComparedFields aFields = comparedFields.get(a.getClass());
+      Set<String> aFieldsNames = aFields.names;
       if (!aFieldsNames.isEmpty()) {
-        Set<String> bFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(b.getClass()));
-        if (!bFieldsNames.containsAll(aFieldsNames)) {
+        ComparedFields bFields = comparedFields.get(b.getClass());
+        if (aFields != bFields && !bFields.names.containsAll(aFieldsNames)) {
           stack.addFirst(basicDualKey);
         } else {
           for (String fieldName : aFieldsNames) {
-            List<String> fieldPath = new ArrayList<>(currentPath);
-            fieldPath.add(fieldName);
-            DualKey dk = new DualKey(fieldPath,
-                                     COMPARISON.getSimpleValue(fieldName, a),
-                                     COMPARISON.getSimpleValue(fieldName, b));
+            DualKey dk = new DualKey(currentLocation.field(fieldName),
+                                     aFields.valueOf(fieldName, a),
+                                     bFields.valueOf(fieldName, b));
             stack.addFirst(dk);
           }
         }
@@ -401,13 +502,13 @@ public class DeepDifference {
    * 
    * @param array1 [] type (Object[], String[], etc.)
    * @param array2 [] type (Object[], String[], etc.)
-   * @param path the path to the arrays to compare
+   * @param location the location of the arrays to compare
    * @param toCompare add items to compare to the Stack (Stack versus recursion)
    * @param visited Set of objects already compared (prevents cycles)
    * @return true if the two arrays are the same length and contain deeply
    *         equivalent items.
    */
-  private static boolean compareArrays(Object array1, Object array2, List<String> path, Deque<DualKey> toCompare,
+  private static boolean compareArrays(Object array1, Object array2, Location location, Deque<DualKey> toCompare,
                                        Set<DualKey> visited) {
     int len = Array.getLength(array1);
     if (len != Array.getLength(array2)) {
@@ -415,7 +516,7 @@ public class DeepDifference {
     }
 
     for (int i = 0; i < len; i++) {
-      DualKey dk = new DualKey(path, Array.get(array1, i), Array.get(array2, i));
+      DualKey dk = new DualKey(location, Array.get(array1, i), Array.get(array2, i));
       if (!visited.contains(dk)) {
         toCompare.addFirst(dk);
       }
@@ -429,7 +530,7 @@ public class DeepDifference {
    * 
    * @param col1 First collection of items to compare
    * @param col2 Second collection of items to compare
-   * @param path The path to the collections
+   * @param location The location of the collections
    * @param toCompare add items to compare to the Stack (Stack versus recursion)
    * @param visited
    *          Set of objects already compared (prevents cycles) value of
@@ -437,13 +538,13 @@ public class DeepDifference {
    *          sets items will be added to the Stack for further comparison.
    */
   private static <K, V> boolean compareOrderedCollection(Collection<K> col1, Collection<V> col2,
-                                                         List<String> path, Deque<DualKey> toCompare,
+                                                         Location location, Deque<DualKey> toCompare,
                                                          Set<DualKey> visited) {
     if (col1.size() != col2.size()) return false;
 
     Iterator<V> i2 = col2.iterator();
     for (K k : col1) {
-      DualKey dk = new DualKey(path, k, i2.next());
+      DualKey dk = new DualKey(location, k, i2.next());
       if (!visited.contains(dk)) toCompare.addFirst(dk);
     }
     return true;
@@ -457,7 +558,7 @@ public class DeepDifference {
    * 
    * @param col1 First collection of items to compare
    * @param col2 Second collection of items to compare
-   * @param path the path to the collections to compare
+   * @param location the location of the collections to compare
    * @param toCompare add items to compare to the Stack (Stack versus recursion)
    * @param visited Set containing items that have already been compared, so as to
    *          prevent cycles.
@@ -466,7 +567,7 @@ public class DeepDifference {
    *         the sets items will be added to the Stack for further comparison.
    */
   private static <K, V> boolean compareUnorderedCollectionByHashCodes(Collection<K> col1, Collection<V> col2,
-                                                                      List<String> path, Deque<DualKey> toCompare,
+                                                                      Location location, Deque<DualKey> toCompare,
                                                                       Set<DualKey> visited) {
     Map<Integer, Object> fastLookup = new HashMap<>();
     for (Object o : col2) {
@@ -480,7 +581,7 @@ public class DeepDifference {
         return false;
       }
 
-      DualKey dk = new DualKey(path, o, other);
+      DualKey dk = new DualKey(location, o, other);
       if (!visited.contains(dk)) {
         toCompare.addFirst(dk);
       }
@@ -494,9 +595,13 @@ public class DeepDifference {
    * collection type is Set and there are passed no custom comparators, there is used
    * comparison on hashcodes basis, otherwise each element from one collection is checked
    * for existence in another one using 'deep' comparison.
+   * <p>
+   * To avoid comparing each element to all the elements of the other collection, elements are first grouped by a
+   * fingerprint (see {@link #fingerprintOf(Collection, Collection, Location, Map, TypeComparators)}) and deeply
+   * compared to the elements having the same fingerprint only.
    */
   private static <K, V> boolean compareUnorderedCollection(Collection<K> col1, Collection<V> col2,
-                                                           List<String> path, Deque<DualKey> toCompare,
+                                                           Location location, Deque<DualKey> toCompare,
                                                            Set<DualKey> visited,
                                                            Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                            TypeComparators comparatorByType) {
@@ -505,22 +610,113 @@ public class DeepDifference {
     boolean noCustomComparators = comparatorByPropertyOrField.isEmpty() && comparatorByType.isEmpty();
     if (noCustomComparators && col1 instanceof Set) {
       // this comparison is used for performance optimization reasons
-      return compareUnorderedCollectionByHashCodes(col1, col2, path, toCompare, visited);
+      return compareUnorderedCollectionByHashCodes(col1, col2, location, toCompare, visited);
     }
 
-    Collection<V> col2Copy = new LinkedList<>(col2);
-    for (Object o1 : col1) {
-      Iterator<V> iterator = col2Copy.iterator();
-      while (iterator.hasNext()) {
-        Object o2 = iterator.next();
-        if (determineDifferences(o1, o2, path, comparatorByPropertyOrField, comparatorByType).isEmpty()) {
-          iterator.remove();
-          break;
-        }
+    Function<Object, Object> fingerprint = fingerprintOf(col1, col2, location, comparatorByPropertyOrField,
+                                                         comparatorByType);
+    Map<Object, List<V>> col2ElementsByFingerprint = new HashMap<>();
+    for (V o2 : col2) {
+      col2ElementsByFingerprint.computeIfAbsent(fingerprint.apply(o2), key -> new ArrayList<>()).add(o2);
+    }
+    for (K o1 : col1) {
+      List<V> candidates = col2ElementsByFingerprint.get(fingerprint.apply(o1));
+      if (candidates == null || !removeEquivalentElement(o1, candidates, location, comparatorByPropertyOrField,
+                                                         comparatorByType)) {
+        // no element of col2 is equivalent to o1
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static <V> boolean removeEquivalentElement(Object element, List<V> candidates, Location location,
+                                                     Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                                     TypeComparators comparatorByType) {
+    for (Iterator<V> iterator = candidates.iterator(); iterator.hasNext();) {
+      if (determineDifferences(element, iterator.next(), location, comparatorByPropertyOrField, comparatorByType,
+                               true).isEmpty()) {
+        iterator.remove();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns a function computing a fingerprint of the elements of the given collections such that two elements
+   * without differences always have equal fingerprints.
+   * <p>
+   * When all elements have the same class, the fingerprint of an element is either the element itself if it is a
+   * {@link String}, a primitive wrapper or an enum, or the values of its fields which are always of one of these types
+   * or {@code null}, as they are compared with {@code equals}. Fields compared with a registered comparator are not
+   * part of the fingerprint, all elements have the same fingerprint if their type has a registered comparator.
+   */
+  private static Function<Object, Object> fingerprintOf(Collection<?> col1, Collection<?> col2, Location location,
+                                                        Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                                        TypeComparators comparatorByType) {
+    Function<Object, Object> sameFingerprint = element -> emptyList();
+    Class<?> elementType = commonElementTypeOf(col1, col2);
+    if (elementType == null || elementType.isArray() || Collection.class.isAssignableFrom(elementType)
+        || Map.class.isAssignableFrom(elementType) || comparatorByType.get(elementType) != null
+        || hasComparator(location, comparatorByPropertyOrField)) {
+      return sameFingerprint;
+    }
+    if (isComparedWithEquals(elementType)) return element -> element;
+
+    ComparedFields fields = comparedFields.get(elementType);
+    Map<Class<?>, Boolean> comparedWithEquals = new HashMap<>();
+    List<String> fingerprintFieldsNames = new ArrayList<>();
+    for (String fieldName : fields.names) {
+      if (!hasComparator(location.field(fieldName), comparatorByPropertyOrField)
+          && valuesAreComparedWithEquals(fieldName, fields, col1, comparatorByType, comparedWithEquals)
+          && valuesAreComparedWithEquals(fieldName, fields, col2, comparatorByType, comparedWithEquals)) {
+        fingerprintFieldsNames.add(fieldName);
+      }
+    }
+    if (fingerprintFieldsNames.isEmpty()) return sameFingerprint;
+    return element -> {
+      List<Object> fieldsValues = new ArrayList<>(fingerprintFieldsNames.size());
+      for (String fieldName : fingerprintFieldsNames) {
+        fieldsValues.add(fields.valueOf(fieldName, element));
+      }
+      return fieldsValues;
+    };
+  }
+
+  private static Class<?> commonElementTypeOf(Collection<?> col1, Collection<?> col2) {
+    Class<?> elementType = null;
+    for (Collection<?> collection : asList(col1, col2)) {
+      for (Object element : collection) {
+        if (element == null || (elementType != null && element.getClass() != elementType)) return null;
+        elementType = element.getClass();
+      }
+    }
+    return elementType;
+  }
+
+  private static boolean hasComparator(Location location, Map<String, Comparator<?>> comparatorByPropertyOrField) {
+    return !comparatorByPropertyOrField.isEmpty()
+           && comparatorByPropertyOrField.containsKey(location.getConcatenatedPath());
+  }
+
+  private static boolean valuesAreComparedWithEquals(String fieldName, ComparedFields fields, Collection<?> elements,
+                                                     TypeComparators comparatorByType,
+                                                     Map<Class<?>, Boolean> comparedWithEquals) {
+    for (Object element : elements) {
+      Object value = fields.valueOf(fieldName, element);
+      if (value != null && !comparedWithEquals.computeIfAbsent(value.getClass(),
+                                                               type -> isComparedWithEquals(type)
+                                                                       && comparatorByType.get(type) == null)) {
+        return false;
       }
     }
+    return true;
+  }
 
-    return col2Copy.isEmpty();
+  private static boolean isComparedWithEquals(Class<?> type) {
+    return type == String.class || type == Boolean.class || type == Character.class || type == Byte.class
+           || type == Short.class || type == Integer.class || type == Long.class || Enum.class.isAssignableFrom(type);
   }
 
   /**
@@ -529,7 +725,7 @@ public class DeepDifference {
    * 
    * @param map1 SortedMap one
    * @param map2 SortedMap two
-   * @param path the path to the maps to compare
+   * @param location the location of the maps to compare
    * @param toCompare add items to compare to the Stack (Stack versus recursion)
    * @param visited Set containing items that have already been compared, to
    *          prevent cycles.
@@ -538,7 +734,7 @@ public class DeepDifference {
    *         the contents of the Maps on the stack for further comparisons.
    */
   private static <K1, V1, K2, V2> boolean compareSortedMap(SortedMap<K1, V1> map1, SortedMap<K2, V2> map2,
-                                                           List<String> path, Deque<DualKey> toCompare,
+                                                           Location location, Deque<DualKey> toCompare,
                                                            Set<DualKey> visited) {
     if (map1.size() != map2.size()) {
       return false;
@@ -549,12 +745,12 @@ public class DeepDifference {
       Map.Entry<K2, V2> entry2 = i2.next();
 
       // Must split the Key and Value so that Map.Entry's equals() method is not used.
-      DualKey dk = new DualKey(path, entry1.getKey(), entry2.getKey());
+      DualKey dk = new DualKey(location, entry1.getKey(), entry2.getKey());
       if (!visited.contains(dk)) {
         toCompare.addFirst(dk);
       }
 
-      dk = new DualKey(path, entry1.getValue(), entry2.getValue());
+      dk = new DualKey(location, entry1.getValue(), entry2.getValue());
       if (!visited.contains(dk)) {
         toCompare.addFirst(dk);
       }
@@ -568,7 +764,7 @@ public class DeepDifference {
    * 
    * @param map1 Map one
    * @param map2 Map two
-   * @param path the path to the maps to compare
+   * @param location the location of the maps to compare
    * @param toCompare add items to compare to the Stack (Stack versus recursion)
    * @param visited Set containing items that have already been compared, to
    *          prevent cycles.
@@ -577,7 +773,7 @@ public class DeepDifference {
    *         the contents of the Maps on the stack for further comparisons.
    */
   private static <K1, V1, K2, V2> boolean compareUnorderedMap(Map<K1, V1> map1, Map<K2, V2> map2,
-                                                              List<String> path, Deque<DualKey> toCompare,
+                                                              Location location, Deque<DualKey> toCompare,
                                                               Set<DualKey> visited) {
     if (map1.size() != map2.size()) {
       return false;
@@ -595,12 +791,12 @@ public class DeepDifference {
         return false;
       }
 
-      DualKey dk = new DualKey(path, entry.getKey(), other.getKey());
+      DualKey dk = new DualKey(location, entry.getKey(), other.getKey());
       if (!visited.contains(dk)) {
         toCompare.addFirst(dk);
       }
 
-      dk = new DualKey(path, entry.getValue(), other.getValue());
+      dk = new DualKey(location, entry.getValue(), other.getValue());
       if (!visited.contains(dk)) {
         toCompare.addFirst(dk);
       }
@@ -611,7 +807,7 @@ public class DeepDifference {
 
   /**
    * Determine if the passed in class has a non-Object.equals() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
+   * method caches its results in a static ClassValue to benefit
    * execution performance.
    * 
    * @param c Class to check.
@@ -619,20 +815,17 @@ public class DeepDifference {
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasCustomEquals(Class<?> c) {
-    if (customEquals.containsKey(c)) {
-      return customEquals.get(c);
-    }
+    return customEquals.get(c);
+  }
 
-    Class<?> origClass = c;
+  private static boolean declaresMethodBelowObject(Class<?> c, String name, Class<?>... parameterTypes) {
     while (!Object.class.equals(c)) {
       try {
-        c.getDeclaredMethod("equals", Object.class);
-        customEquals.put(origClass, true);
+        c.getDeclaredMethod(name, parameterTypes);
         return true;
       } catch (Exception ignored) {}
       c = c.getSuperclass();
     }
-    customEquals.put(origClass, false);
     return false;
   }
 
@@ -700,9 +893,9 @@ public class DeepDifference {
         continue;
       }
 
-      Collection<Field> fields = getDeclaredFieldsIncludingInherited(obj.getClass());
-      for (Field field : fields) {
-        stack.addFirst(COMPARISON.getSimpleValue(field.getName(), obj));
+      ComparedFields fields = comparedFields.get(obj.getClass());
+      for (String fieldName : fields.names) {
+        stack.addFirst(fields.valueOf(fieldName, obj));
       }
     }
     return hash;
@@ -710,7 +903,7 @@ public class DeepDifference {
 
   /**
    * Determine if the passed in class has a non-Object.hashCode() method. This
-   * method caches its results in static ConcurrentHashMap to benefit
+   * method caches its results in a static ClassValue to benefit
    * execution performance.
    * 
    * @param c Class to check.
@@ -718,20 +911,7 @@ public class DeepDifference {
    *         between itself and just below Object in it's inheritance.
    */
   static boolean hasCustomHashCode(Class<?> c) {
-    Class<?> origClass = c;
-    if (customHash.containsKey(c)) {
-      return customHash.get(c);
-    }
-
-    while (!Object.class.equals(c)) {
-      try {
-        c.getDeclaredMethod("hashCode");
-        customHash.put(origClass, true);
-        return true;
-      } catch (Exception ignored) {}
-      c = c.getSuperclass();
-    }
-    customHash.put(origClass, false);
-    return false;
+    return customHash.get(c);
   }
+
 }
@@ -13,6 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
@@ -28,9 +29,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
-import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.InsertDelta;
 
 
 /**
@@ -47,6 +51,11 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  private static final int BUFFER_SIZE = 8192;
+  @VisibleForTesting
+  static final int MAX_BUFFERED_LINES = 10_000;
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -64,6 +73,11 @@ public class Diff {
 
   @VisibleForTesting
   public List<Delta<String>> diff(Path actual, Charset actualCharset, Path expected, Charset expectedCharset) throws IOException {
+    // same bytes decoded with the same charset give the same lines, no need to read them and compute their diff
+    if (actualCharset.equals(expectedCharset) && binaryDiff.haveSameContent(actual, expected)) {
+      checkCanBeDecoded(actual, actualCharset);
+      return emptyList();
+    }
     return diff(newBufferedReader(actual, actualCharset), newBufferedReader(expected, expectedCharset));
   }
 
@@ -77,6 +91,16 @@ public class Diff {
     return diff(newBufferedReader(actual, charset), readerFor(expected));
   }
 
+  private static void checkCanBeDecoded(Path path, Charset charset) throws IOException {
+    // the reader reports malformed input like the line by line comparison would do
+    try (BufferedReader reader = newBufferedReader(path, charset)) {
+      char[] buffer = new char[BUFFER_SIZE];
+      while (reader.read(buffer) != -1) {
+        // decoding is the check
+      }
+    }
+  }
+
   private BufferedReader readerFor(InputStream stream) {
     return new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()));
   }
@@ -85,24 +109,79 @@ public class Diff {
     return new BufferedReader(new StringReader(string));
   }
 
+  /**
+   * Walks both readers in lockstep without keeping their common lines, the lines following the first difference are
+   * then buffered up to {@link #MAX_BUFFERED_LINES} per reader and diffed.
+   * <p>
+   * When the rest of a reader does not fit in the buffer, only the differences found before its end are reported (at
+   * least the first one) so that huge contents are compared in bounded memory.
+   */
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
-      
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      int commonLines = 0;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        commonLines++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
+
+      List<String> actualLines = linesFromBufferedReader(actualLine, actual);
+      List<String> expectedLines = linesFromBufferedReader(expectedLine, expected);
+      boolean truncated = actualLines.size() == MAX_BUFFERED_LINES && actual.readLine() != null
+                          || expectedLines.size() == MAX_BUFFERED_LINES && expected.readLine() != null;
+
+      List<Delta<String>> deltas = DiffUtils.diff(expectedLines, actualLines).getDeltas();
+      if (truncated) deltas = deltasBeforeBufferEnd(deltas, expectedLines.size(), actualLines.size());
+      List<Delta<String>> shiftedDeltas = new ArrayList<>(deltas.size());
+      for (Delta<String> delta : deltas) {
+        shiftedDeltas.add(shift(delta, commonLines));
+      }
+      return unmodifiableList(shiftedDeltas);
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  private static List<String> linesFromBufferedReader(String firstLine, BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<>();
-    while ((line = reader.readLine()) != null) {
+    if (firstLine == null) return lines;
+    lines.add(firstLine);
+    String line;
+    while (lines.size() < MAX_BUFFERED_LINES && (line = reader.readLine()) != null) {
       lines.add(line);
     }
     return lines;
   }
+
+  private static List<Delta<String>> deltasBeforeBufferEnd(List<Delta<String>> deltas, int expectedSize,
+                                                           int actualSize) {
+    // a delta reaching the end of the buffered lines may be an artifact of the truncation
+    List<Delta<String>> deltasBeforeBufferEnd = new ArrayList<>();
+    for (Delta<String> delta : deltas) {
+      if (end(delta.getOriginal()) >= expectedSize || end(delta.getRevised()) >= actualSize) break;
+      deltasBeforeBufferEnd.add(delta);
+    }
+    return deltasBeforeBufferEnd.isEmpty() ? deltas.subList(0, 1) : deltasBeforeBufferEnd;
+  }
+
+  private static int end(Chunk<String> chunk) {
+    return chunk.getPosition() + chunk.size();
+  }
+
+  private static Delta<String> shift(Delta<String> delta, int lines) {
+    if (lines == 0) return delta;
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + lines, delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + lines, delta.getRevised().getLines());
+    switch (delta.getType()) {
+    case INSERT:
+      return new InsertDelta<>(original, revised);
+    case DELETE:
+      return new DeleteDelta<>(original, revised);
+    default:
+      return new ChangeDelta<>(original, revised);
+    }
+  }
 }
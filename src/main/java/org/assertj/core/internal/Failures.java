@@ -185,11 +185,8 @@ public class Failures {
    * See example below :
    * <pre><code class='java'> --------------- stack trace not filtered -----------------
   org.junit.ComparisonFailure: expected:&lt;'[Ronaldo]'&gt; but was:&lt;'[Messi]'&gt;
-  at sun.reflect.NativeConstructorAccessorImpl.newInstance0(Native Method)
-  at sun.reflect.NativeConstructorAccessorImpl.newInstance(NativeConstructorAccessorImpl.java:39)
-  at sun.reflect.DelegatingConstructorAccessorImpl.newInstance(DelegatingConstructorAccessorImpl.java:27)
-  at java.lang.reflect.Constructor.newInstance(Constructor.java:501)
-  at org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34)
+  at org.assertj.core.error.ConstructorInvoker$ResolvedConstructor.newInstance(ConstructorInvoker.java:91)
+  at org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:54)
   at org.assertj.core.error.ShouldBeEqual.newComparisonFailure(ShouldBeEqual.java:111)
   at org.assertj.core.error.ShouldBeEqual.comparisonFailure(ShouldBeEqual.java:103)
   at org.assertj.core.error.ShouldBeEqual.newAssertionError(ShouldBeEqual.java:81)
@@ -200,12 +197,9 @@ public class Failures {
   
   --------------- stack trace filtered -----------------
   org.junit.ComparisonFailure: expected:&lt;'[Ronaldo]'&gt; but was:&lt;'[Messi]'&gt;
-  at sun.reflect.NativeConstructorAccessorImpl.newInstance0(Native Method)
-  at sun.reflect.NativeConstructorAccessorImpl.newInstance(NativeConstructorAccessorImpl.java:39)
-  at sun.reflect.DelegatingConstructorAccessorImpl.newInstance(DelegatingConstructorAccessorImpl.java:27)
-  at examples.StackTraceFilterExample.main(StackTraceFilterExample.java:20)</code></pre>
+  at examples.StackTraceFilterExample.main(StackTraceFilterExample.java:13)</code></pre>
    *
-   * Method is public because we need to call it from {@link ShouldBeEqual#newAssertionError(Description, org.assertj.core.presentation.Representation)} that is building a junit ComparisonFailure by reflection.
+   * Method is public because we need to call it from {@link ShouldBeEqual#newAssertionError(Description, org.assertj.core.presentation.Representation)} that is building a junit ComparisonFailure with {@link org.assertj.core.error.ConstructorInvoker}.
    *
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
@@ -12,32 +12,84 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.assertj.core.util.Objects;
 
 // immutable
 class IterableDiff {
 
+  // types whose equals/hashCode are known to be consistent, a hash miss on them is a real miss
+  private static final Set<Class<?>> TYPES_WITH_CONSISTENT_HASH_CODE = newLinkedHashSet(String.class, Boolean.class,
+                                                                                        Character.class, Byte.class,
+                                                                                        Short.class, Integer.class,
+                                                                                        Long.class, Float.class,
+                                                                                        Double.class, BigInteger.class,
+                                                                                        BigDecimal.class, UUID.class);
+
   private final ComparisonStrategy comparisonStrategy;
+  private final boolean ignoringDuplicates;
 
   List<Object> unexpected;
   List<Object> missing;
 
   <T> IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
+    this(actual, expected, comparisonStrategy, false, true);
+  }
+
+  private IterableDiff(Iterable<?> actual, Iterable<?> expected, ComparisonStrategy comparisonStrategy,
+                       boolean ignoringDuplicates, boolean computeMissing) {
     this.comparisonStrategy = comparisonStrategy;
+    this.ignoringDuplicates = ignoringDuplicates;
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      diffUsingSortMerge(actual, expected, ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator(),
+                         computeMissing);
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = subtract(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
-    this.missing = subtract(expected, actual);
+    this.missing = computeMissing ? subtract(expected, actual) : emptyList();
   }
 
   static <T> IterableDiff diff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     return new IterableDiff(actual, expected, comparisonStrategy);
   }
 
+  /**
+   * Same as {@link #diff(Iterable, Iterable, ComparisonStrategy)} but an element is never consumed when matched, this
+   * means that unexpected elements are the ones in actual not equal to any expected one and vice versa for missing
+   * elements.
+   */
+  static IterableDiff diffIgnoringDuplicates(Iterable<?> actual, Iterable<?> expected,
+                                             ComparisonStrategy comparisonStrategy) {
+    return new IterableDiff(actual, expected, comparisonStrategy, true, true);
+  }
+
+  /**
+   * Returns the elements in actual not equal to any expected one, same as the unexpected elements of
+   * {@link #diffIgnoringDuplicates(Iterable, Iterable, ComparisonStrategy)} without looking for the missing ones.
+   */
+  static List<Object> unexpectedIgnoringDuplicates(Iterable<?> actual, Iterable<?> expected,
+                                                   ComparisonStrategy comparisonStrategy) {
+    return new IterableDiff(actual, expected, comparisonStrategy, true, false).unexpected;
+  }
+
   boolean differencesFound() {
     return !unexpected.isEmpty() || !missing.isEmpty();
   }
@@ -48,10 +100,18 @@ class IterableDiff {
    * @param second the list to subtract
    * @return the list of elements in the first iterable that are not in the second, i.e. first - second
    */
-  private <T> List<Object> subtract(Iterable<T> first, Iterable<T> second) {
+  private List<Object> subtract(Iterable<?> first, Iterable<?> second) {
+    // elements hash codes can only be relied on when equality is the standard one
+    if (comparisonStrategy.isStandard()) return subtractUsingHashIndex(first, second);
     List<Object> missingInFirst = new ArrayList<>();
+    if (ignoringDuplicates) {
+      for (Object elementInFirst : first) {
+        if (!iterableContains(second, elementInFirst)) missingInFirst.add(elementInFirst);
+      }
+      return unmodifiableList(missingInFirst);
+    }
     // use a copy to deal correctly with potential duplicates
-    List<T> copyOfSecond = newArrayList(second);
+    List<Object> copyOfSecond = newArrayList(second);
     for (Object elementInFirst : first) {
       if (iterableContains(copyOfSecond, elementInFirst)) {
         // remove the element otherwise a duplicate would be found in the case if there is one in actual
@@ -63,6 +123,157 @@ class IterableDiff {
     return unmodifiableList(missingInFirst);
   }
 
+  /**
+   * Same as {@link #subtract(Iterable, Iterable)} but indexes the second iterable in a counting multiset so that
+   * elements lookups are O(1) instead of a linear scan.
+   * <p>
+   * Since elements may not honor the equals/hashCode contract (or may be arrays), a lookup that fails falls back to
+   * scanning the remaining elements, unless all the elements involved have a known consistent hashCode.
+   *
+   * @param first the list we want to subtract from
+   * @param second the list to subtract
+   * @return the list of elements in the first iterable that are not in the second, i.e. first - second
+   */
+  private List<Object> subtractUsingHashIndex(Iterable<?> first, Iterable<?> second) {
+    Map<HashKey, int[]> secondElementsCount = new HashMap<>();
+    boolean secondHasConsistentHashCodes = true;
+    for (Object elementInSecond : second) {
+      int[] count = secondElementsCount.computeIfAbsent(new HashKey(elementInSecond), key -> new int[1]);
+      count[0]++;
+      secondHasConsistentHashCodes &= hasConsistentHashCode(elementInSecond);
+    }
+    List<Object> missingInFirst = new ArrayList<>();
+    for (Object elementInFirst : first) {
+      int[] count = secondElementsCount.get(new HashKey(elementInFirst));
+      boolean found = count != null && count[0] > 0;
+      if (!found && !(secondHasConsistentHashCodes && hasConsistentHashCode(elementInFirst))) {
+        count = findCountOfEqualElement(secondElementsCount, elementInFirst);
+        found = count != null;
+      }
+      if (found) {
+        // consume the element otherwise a duplicate would be found in the case if there is one in actual
+        if (!ignoringDuplicates) count[0]--;
+      } else {
+        missingInFirst.add(elementInFirst);
+      }
+    }
+    return unmodifiableList(missingInFirst);
+  }
+
+  /**
+   * Sorts both iterables with the comparator and merges them to match equal elements in O(n log n) instead of O(n*m).
+   * <p>
+   * Matched pairs are always equal according to the comparator, but if it does not define a total order some equal
+   * elements may be left unmatched, the remaining elements are thus checked again with the regular scan, which is
+   * cheap when there are few differences. If the comparator can't sort the elements, everything is checked with the
+   * regular scan.
+   *
+   * @param actual the actual elements
+   * @param expected the expected elements
+   * @param comparator the comparator used to sort and match elements
+   * @param computeMissing whether the missing elements are needed
+   */
+  @SuppressWarnings("unchecked")
+  private void diffUsingSortMerge(Iterable<?> actual, Iterable<?> expected, Comparator<?> comparator,
+                                  boolean computeMissing) {
+    List<Object> actualElements = newArrayList(actual);
+    List<Object> expectedElements = newArrayList(expected);
+    boolean[] actualMatches = new boolean[actualElements.size()];
+    boolean[] expectedMatches = new boolean[expectedElements.size()];
+    try {
+      matchNulls(actualElements, actualMatches, expectedElements, expectedMatches);
+      mergeSorted(actualElements, actualMatches, expectedElements, expectedMatches, (Comparator<Object>) comparator);
+    } catch (RuntimeException e) {
+      // elements of the same iterable might not be comparable with each other, forget the partial matches
+      java.util.Arrays.fill(actualMatches, false);
+      java.util.Arrays.fill(expectedMatches, false);
+    }
+    List<Object> actualLeftovers = unmatched(actualElements, actualMatches);
+    List<Object> expectedLeftovers = unmatched(expectedElements, expectedMatches);
+    // when ignoring duplicates, a leftover element may be equal to an element already matched
+    this.unexpected = subtract(actualLeftovers, ignoringDuplicates ? expectedElements : expectedLeftovers);
+    this.missing = computeMissing ? subtract(expectedLeftovers, ignoringDuplicates ? actualElements : actualLeftovers)
+        : emptyList();
+  }
+
+  // nulls are not passed to the comparator, consistently with ComparatorBasedComparisonStrategy.iterableContains
+  private void matchNulls(List<Object> actualElements, boolean[] actualMatches,
+                          List<Object> expectedElements, boolean[] expectedMatches) {
+    int actualNulls = countNulls(actualElements);
+    int expectedNulls = countNulls(expectedElements);
+    int nullsToMatch = Math.min(actualNulls, expectedNulls);
+    if (ignoringDuplicates && nullsToMatch > 0) nullsToMatch = Integer.MAX_VALUE;
+    markNulls(actualElements, actualMatches, nullsToMatch);
+    markNulls(expectedElements, expectedMatches, nullsToMatch);
+  }
+
+  private static int countNulls(List<Object> elements) {
+    return (int) elements.stream().filter(element -> element == null).count();
+  }
+
+  private static void markNulls(List<Object> elements, boolean[] matches, int nullsToMark) {
+    for (int i = 0, markedNulls = 0; i < matches.length && markedNulls < nullsToMark; i++) {
+      if (elements.get(i) == null) {
+        matches[i] = true;
+        markedNulls++;
+      }
+    }
+  }
+
+  private void mergeSorted(List<Object> actualElements, boolean[] actualMatches,
+                           List<Object> expectedElements, boolean[] expectedMatches, Comparator<Object> comparator) {
+    int[] actualIndexes = sortedNonNullIndexes(actualElements, comparator);
+    int[] expectedIndexes = sortedNonNullIndexes(expectedElements, comparator);
+    int i = 0;
+    int j = 0;
+    while (i < actualIndexes.length && j < expectedIndexes.length) {
+      Object actualElement = actualElements.get(actualIndexes[i]);
+      Object expectedElement = expectedElements.get(expectedIndexes[j]);
+      int comparison = comparator.compare(expectedElement, actualElement);
+      if (comparison < 0) j++;
+      else if (comparison > 0) i++;
+      else {
+        // when ignoring duplicates, all the elements equal to the matched ones are matched too
+        do {
+          actualMatches[actualIndexes[i++]] = true;
+        } while (ignoringDuplicates && i < actualIndexes.length
+                 && comparator.compare(expectedElement, actualElements.get(actualIndexes[i])) == 0);
+        do {
+          expectedMatches[expectedIndexes[j++]] = true;
+        } while (ignoringDuplicates && j < expectedIndexes.length
+                 && comparator.compare(expectedElements.get(expectedIndexes[j]), actualElement) == 0);
+      }
+    }
+  }
+
+  private static int[] sortedNonNullIndexes(List<Object> elements, Comparator<Object> comparator) {
+    return IntStream.range(0, elements.size())
+                    .filter(i -> elements.get(i) != null)
+                    .boxed()
+                    .sorted((i, j) -> comparator.compare(elements.get(i), elements.get(j)))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+  }
+
+  private static List<Object> unmatched(List<Object> elements, boolean[] matches) {
+    List<Object> unmatched = new ArrayList<>();
+    for (int i = 0; i < matches.length; i++) {
+      if (!matches[i]) unmatched.add(elements.get(i));
+    }
+    return unmatched;
+  }
+
+  private int[] findCountOfEqualElement(Map<HashKey, int[]> elementsCount, Object value) {
+    for (Entry<HashKey, int[]> entry : elementsCount.entrySet()) {
+      if (entry.getValue()[0] > 0 && comparisonStrategy.areEqual(entry.getKey().element, value)) return entry.getValue();
+    }
+    return null;
+  }
+
+  private static boolean hasConsistentHashCode(Object element) {
+    return element == null || element instanceof Enum || TYPES_WITH_CONSISTENT_HASH_CODE.contains(element.getClass());
+  }
+
   private boolean iterableContains(Iterable<?> actual, Object value) {
     return comparisonStrategy.iterableContains(actual, value);
   }
@@ -70,4 +281,34 @@ class IterableDiff {
   private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
     comparisonStrategy.iterablesRemoveFirst(actual, value);
   }
+
+  /**
+   * Wraps an element so that it is hashed and compared with {@link Objects#areEqual(Object, Object)} semantics, arrays
+   * are hashed by content to be consistent with it.
+   */
+  private static final class HashKey {
+
+    private final Object element;
+    private final int hashCode;
+
+    private HashKey(Object element) {
+      this.element = element;
+      this.hashCode = element != null && element.getClass().isArray()
+          ? java.util.Arrays.deepHashCode(new Object[] { element })
+          : Objects.hashCodeFor(element);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof HashKey)) return false;
+      HashKey other = (HashKey) obj;
+      return hashCode == other.hashCode && Objects.areEqual(element, other.element);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
 }
@@ -75,6 +75,10 @@ import static org.assertj.core.internal.ErrorMessages.emptySubsequence;
 import static org.assertj.core.internal.ErrorMessages.nullSequence;
 import static org.assertj.core.internal.ErrorMessages.nullSubsequence;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.IterableDiff.diffIgnoringDuplicates;
+import static org.assertj.core.internal.IterableDiff.unexpectedIgnoringDuplicates;
+import static org.assertj.core.internal.Sequences.containsSequence;
+import static org.assertj.core.internal.Sequences.indexOfSequence;
 import static org.assertj.core.util.Arrays.prepend;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.IterableUtil.sizeOf;
@@ -351,20 +355,6 @@ public class Iterables {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  /**
-   * Delegates to {@link ComparisonStrategy#iterablesRemoveFirst(Iterable, Object)}
-   */
-  private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
-
-  /**
-   * Delegates to {@link ComparisonStrategy#iterableRemoves(Iterable, Object)}
-   */
-  private void iterablesRemove(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
-  }
-
   /**
    * Asserts that the given {@code Iterable} contains only the given values and nothing else, in any order.
    *
@@ -380,23 +370,12 @@ public class Iterables {
   public void assertContainsOnly(AssertionInfo info, Iterable<?> actual, Object[] expectedValues) {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, expectedValues)) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actual);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actual, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
-      }
-    }
-
-    if (!unexpectedValues.isEmpty() || !missingValues.isEmpty()) {
+    // duplicates are irrelevant: unexpected = actual - expectedValues and missing = expectedValues - actual
+    List<Object> actualAsList = newArrayList(actual);
+    IterableDiff diff = diffIgnoringDuplicates(actualAsList, asList(expectedValues), comparisonStrategy);
+    if (diff.differencesFound()) {
       throw failures.failure(info, shouldContainOnly(actual, expectedValues,
-                                                     missingValues, unexpectedValues,
+                                                     diff.missing, diff.unexpected,
                                                      comparisonStrategy));
     }
   }
@@ -463,12 +442,10 @@ public class Iterables {
    */
   public void assertContainsSequence(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, sequence)) return;
-    // check for elements in values that are missing in actual.
     List<?> actualAsList = newArrayList(actual);
-    for (int i = 0; i < actualAsList.size(); i++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, i)) return;
-    }
+    if (containsSequence(actualAsList.size(), sequence.length, elementsEquality(actualAsList, sequence),
+                         elementsEquality(asList(sequence), sequence), comparisonStrategy.isStandard()))
+      return;
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
@@ -487,14 +464,10 @@ public class Iterables {
     requireNonNull(sequence, nullSequence());
     checkIsNotEmptySequence(sequence);
     assertNotNull(info, actual);
-    // check for elements in values that are missing in actual.
     List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, index)) {
-        throw actualDoesContainSequence(info, actual, sequence, index);
-      }
-    }
+    int index = indexOfSequence(actualAsList.size(), sequence.length, elementsEquality(actualAsList, sequence),
+                                elementsEquality(asList(sequence), sequence), comparisonStrategy.isStandard());
+    if (index != -1) throw actualDoesContainSequence(info, actual, sequence, index);
   }
 
   /**
@@ -576,26 +549,15 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
-                                       .collect(toList());
+    List<Object> extra = unexpectedIgnoringDuplicates(actual, values, comparisonStrategy);
     if (extra.size() > 0) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
   /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualAsList the list to look sequence in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
+   * Returns an {@link ElementsEquality} comparing the elements of the given list with the given elements.
    */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) return false;
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) return false;
-    }
-    return true;
+  private ElementsEquality elementsEquality(List<?> list, Object[] elements) {
+    return (listIndex, elementIndex) -> areEqual(list.get(listIndex), elements[elementIndex]);
   }
 
   /**
@@ -1253,20 +1215,12 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
-
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
+    List<Object> actualAsList = newArrayList(actual);
+    IterableDiff diff = diff(actualAsList, asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
-    throw failures.failure(info,
-                           shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+    throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected,
+                                                                comparisonStrategy));
   }
 
   void assertNotNull(AssertionInfo info, Iterable<?> actual) {
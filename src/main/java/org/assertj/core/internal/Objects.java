@@ -80,6 +80,13 @@ import org.assertj.core.util.introspection.PropertySupport;
 public class Objects {
 
   private static final Objects INSTANCE = new Objects();
+
+  private static final ClassValue<Set<Field>> DECLARED_FIELDS_INCLUDING_INHERITED = new ClassValue<Set<Field>>() {
+    @Override
+    protected Set<Field> computeValue(Class<?> clazz) {
+      return findDeclaredFieldsIncludingInherited(clazz);
+    }
+  };
   @VisibleForTesting
   final PropertySupport propertySupport = PropertySupport.instance();
   private final ComparisonStrategy comparisonStrategy;
@@ -786,6 +793,11 @@ public class Objects {
    */
   public static Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
     checkNotNull(clazz, "expecting Class parameter not to be null");
+    // the cached fields are shared, callers get their own copy
+    return new LinkedHashSet<>(DECLARED_FIELDS_INCLUDING_INHERITED.get(clazz));
+  }
+
+  private static Set<Field> findDeclaredFieldsIncludingInherited(Class<?> clazz) {
     Set<Field> declaredFields = getDeclaredFieldsIgnoringSyntheticAndStatic(clazz);
     // get fields declared in superclass
     Class<?> superclazz = clazz.getSuperclass();
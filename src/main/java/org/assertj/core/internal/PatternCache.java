@@ -0,0 +1,239 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Preconditions.checkNotNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Bounded cache of the {@link Pattern}s compiled from the regular expressions given to the assertions, patterns not
+ * used recently are evicted when the cache is full.
+ * <p>
+ * Assertions are often called in loops with the same regular expressions, compiling them costs much more than matching
+ * them against short strings. Hit and miss counts are available to check whether the cache is large enough, if it is
+ * not, its capacity can be changed with {@code Assertions.setMaxCachedPatterns(int)}.
+ * <p>
+ * This class is thread safe. Looking up a cached pattern takes no lock, a pattern found in the cache is only marked as
+ * recently used. When the cache gets over capacity, the "clock" algorithm evicts patterns not used since the previous
+ * eviction, which approximates evicting the least recently used ones. Patterns are compiled outside of any lock so a
+ * regular expression may be compiled twice by concurrent threads.
+ */
+public final class PatternCache {
+
+  @VisibleForTesting
+  static final int DEFAULT_CAPACITY = 256;
+
+  private static final PatternCache INSTANCE = new PatternCache(DEFAULT_CAPACITY);
+
+  private final Map<Key, CachedPattern> patterns = new ConcurrentHashMap<>();
+  private final Object evictionLock = new Object();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private volatile int capacity;
+
+  /**
+   * Returns the singleton instance of this class.
+   *
+   * @return the singleton instance of this class.
+   */
+  public static PatternCache instance() {
+    return INSTANCE;
+  }
+
+  @VisibleForTesting
+  PatternCache(int capacity) {
+    checkCapacity(capacity);
+    this.capacity = capacity;
+  }
+
+  /**
+   * Sets the maximum number of compiled patterns kept in the cache, patterns not used recently are evicted if the cache
+   * holds more patterns than the new capacity.
+   * <p>
+   * The default capacity of the shared instance is {@value #DEFAULT_CAPACITY}, use
+   * {@code Assertions.setMaxCachedPatterns(int)} to change it.
+   *
+   * @param capacity the maximum number of compiled patterns kept in the cache.
+   * @throws IllegalArgumentException if the given capacity is not greater than 0.
+   */
+  public void setCapacity(int capacity) {
+    checkCapacity(capacity);
+    this.capacity = capacity;
+    evictIfOverCapacity(null);
+  }
+
+  /**
+   * Returns the maximum number of compiled patterns kept in the cache.
+   *
+   * @return the maximum number of compiled patterns kept in the cache.
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the pattern compiled from the given regular expression.
+   *
+   * @param regex the regular expression to compile.
+   * @return the compiled pattern.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   */
+  public Pattern compile(String regex) {
+    return compile(regex, 0);
+  }
+
+  /**
+   * Returns the pattern compiled from the given regular expression with the given flags.
+   *
+   * @param regex the regular expression to compile.
+   * @param flags the match flags, see {@link Pattern#compile(String, int)}.
+   * @return the compiled pattern.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws IllegalArgumentException if the flags contain undefined bits.
+   */
+  public Pattern compile(String regex, int flags) {
+    Key key = new Key(regex, flags);
+    CachedPattern cachedPattern = patterns.get(key);
+    if (cachedPattern != null) {
+      hitCount.increment();
+      cachedPattern.markUsed();
+      return cachedPattern.pattern;
+    }
+    missCount.increment();
+    Pattern pattern = Pattern.compile(regex, flags);
+    patterns.put(key, new CachedPattern(pattern));
+    evictIfOverCapacity(key);
+    return pattern;
+  }
+
+  /**
+   * Evicts patterns until the cache is within its capacity, the pattern just added is kept.
+   * <p>
+   * Patterns are visited in a circle, a pattern marked as used is unmarked and spared this time, an unmarked one is
+   * evicted. The iterator of the concurrent map is weakly consistent so it can be used while other threads add
+   * patterns.
+   */
+  private void evictIfOverCapacity(Key addedKey) {
+    if (patterns.size() <= capacity) return;
+    synchronized (evictionLock) {
+      Iterator<Map.Entry<Key, CachedPattern>> clockHand = patterns.entrySet().iterator();
+      while (patterns.size() > capacity) {
+        if (!clockHand.hasNext()) clockHand = patterns.entrySet().iterator();
+        Map.Entry<Key, CachedPattern> entry = clockHand.next();
+        if (entry.getKey().equals(addedKey)) continue;
+        if (!entry.getValue().unmarkUsed()) clockHand.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of compiled patterns found in the cache.
+   *
+   * @return the number of compiled patterns found in the cache.
+   */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of patterns that had to be compiled as they were not in the cache.
+   *
+   * @return the number of patterns that had to be compiled.
+   */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of compiled patterns in the cache.
+   *
+   * @return the number of compiled patterns in the cache.
+   */
+  public int size() {
+    return patterns.size();
+  }
+
+  /**
+   * Removes all the compiled patterns from the cache and resets the hit and miss counts.
+   */
+  public void clear() {
+    patterns.clear();
+    hitCount.reset();
+    missCount.reset();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("PatternCache[size=%s, capacity=%s, hitCount=%s, missCount=%s]", size(), capacity(), hitCount(),
+                         missCount());
+  }
+
+  private static void checkCapacity(int capacity) {
+    checkArgument(capacity > 0, "The capacity of the cache should be greater than 0 but was %s", capacity);
+  }
+
+  private static final class CachedPattern {
+    private final Pattern pattern;
+    private volatile boolean used;
+
+    private CachedPattern(Pattern pattern) {
+      this.pattern = pattern;
+    }
+
+    private void markUsed() {
+      // only written when needed so that threads hitting the same pattern don't keep invalidating each other's caches
+      if (!used) used = true;
+    }
+
+    private boolean unmarkUsed() {
+      boolean wasUsed = used;
+      if (wasUsed) used = false;
+      return wasUsed;
+    }
+  }
+
+  private static final class Key {
+    private final String regex;
+    private final int flags;
+
+    private Key(String regex, int flags) {
+      this.regex = checkNotNull(regex);
+      this.flags = flags;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key) obj;
+      return flags == other.flags && regex.equals(other.regex);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * regex.hashCode() + flags;
+    }
+  }
+
+}
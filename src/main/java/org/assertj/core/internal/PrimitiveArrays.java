@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Element access to primitive arrays that does not box elements, unlike {@link java.lang.reflect.Array#get(Object, int)}.
+ * <p>
+ * Equality and ordering follow the boxed types {@code equals} and {@code compareTo} (e.g. {@code NaN} is equal to
+ * itself, {@code 0.0} and {@code -0.0} are not), so that results are the same as with the
+ * {@link StandardComparisonStrategy} applied to boxed elements.
+ */
+final class PrimitiveArrays {
+
+  private PrimitiveArrays() {}
+
+  /**
+   * Returns an {@link ElementsEquality} comparing elements of the given arrays without boxing them, or {@code null} if
+   * the arrays are not primitive arrays of the same type.
+   *
+   * @param first the first array.
+   * @param second the second array.
+   * @return an {@link ElementsEquality} comparing primitive elements or {@code null}.
+   */
+  static ElementsEquality elementsEqualityOf(Object first, Object second) {
+    Class<?> componentType = primitiveComponentTypeOf(first);
+    if (componentType == null || componentType != primitiveComponentTypeOf(second)) return null;
+    if (componentType == int.class) {
+      int[] firstArray = (int[]) first, secondArray = (int[]) second;
+      return (i, j) -> firstArray[i] == secondArray[j];
+    }
+    if (componentType == long.class) {
+      long[] firstArray = (long[]) first, secondArray = (long[]) second;
+      return (i, j) -> firstArray[i] == secondArray[j];
+    }
+    if (componentType == double.class) {
+      double[] firstArray = (double[]) first, secondArray = (double[]) second;
+      return (i, j) -> Double.doubleToLongBits(firstArray[i]) == Double.doubleToLongBits(secondArray[j]);
+    }
+    if (componentType == float.class) {
+      float[] firstArray = (float[]) first, secondArray = (float[]) second;
+      return (i, j) -> Float.floatToIntBits(firstArray[i]) == Float.floatToIntBits(secondArray[j]);
+    }
+    if (componentType == short.class) {
+      short[] firstArray = (short[]) first, secondArray = (short[]) second;
+      return (i, j) -> firstArray[i] == secondArray[j];
+    }
+    if (componentType == byte.class) {
+      byte[] firstArray = (byte[]) first, secondArray = (byte[]) second;
+      return (i, j) -> firstArray[i] == secondArray[j];
+    }
+    if (componentType == char.class) {
+      char[] firstArray = (char[]) first, secondArray = (char[]) second;
+      return (i, j) -> firstArray[i] == secondArray[j];
+    }
+    boolean[] firstArray = (boolean[]) first, secondArray = (boolean[]) second;
+    return (i, j) -> firstArray[i] == secondArray[j];
+  }
+
+  /**
+   * Returns the index of the first element greater than its successor in the given primitive array, or -1 if the array
+   * is sorted in ascending order.
+   *
+   * @param array a primitive array.
+   * @return the index of the first element greater than its successor or -1 if the array is sorted.
+   * @throws IllegalArgumentException if the given object is not a primitive array.
+   */
+  static int indexOfFirstUnsortedElement(Object array) {
+    Class<?> componentType = primitiveComponentTypeOf(array);
+    if (componentType == int.class) {
+      int[] elements = (int[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+      return -1;
+    }
+    if (componentType == long.class) {
+      long[] elements = (long[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+      return -1;
+    }
+    if (componentType == double.class) {
+      double[] elements = (double[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (Double.compare(elements[i], elements[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+    if (componentType == float.class) {
+      float[] elements = (float[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (Float.compare(elements[i], elements[i + 1]) > 0) return i;
+      }
+      return -1;
+    }
+    if (componentType == short.class) {
+      short[] elements = (short[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+      return -1;
+    }
+    if (componentType == byte.class) {
+      byte[] elements = (byte[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+      return -1;
+    }
+    if (componentType == char.class) {
+      char[] elements = (char[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+      return -1;
+    }
+    if (componentType == boolean.class) {
+      boolean[] elements = (boolean[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] && !elements[i + 1]) return i;
+      }
+      return -1;
+    }
+    throw new IllegalArgumentException("The object should be a primitive array but was " + array);
+  }
+
+  static boolean isPrimitiveArray(Object array) {
+    return primitiveComponentTypeOf(array) != null;
+  }
+
+  private static Class<?> primitiveComponentTypeOf(Object array) {
+    if (array == null) return null;
+    Class<?> componentType = array.getClass().getComponentType();
+    return componentType != null && componentType.isPrimitive() ? componentType : null;
+  }
+
+}
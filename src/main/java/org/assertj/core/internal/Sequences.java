@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Linear time search of a sequence of elements in actual elements, based on the Knuth-Morris-Pratt algorithm.
+ * <p>
+ * Elements are accessed by index through {@link ElementsEquality}s, one comparing an actual element (first index) with a
+ * sequence element (second index) and one comparing sequence elements with each other, this allows to share the search
+ * between iterables, arrays and char sequences.
+ * <p>
+ * The Knuth-Morris-Pratt algorithm relies on equality being transitive, which is not the case of some comparators
+ * (e.g. comparators with a precision), for these the search falls back to comparing the sequence at every index.
+ */
+final class Sequences {
+
+  private Sequences() {}
+
+  /**
+   * Returns the index of the first occurrence of the sequence in actual, or -1 if actual does not contain it.
+   *
+   * @param actualSize the number of actual elements.
+   * @param sequenceSize the number of sequence elements.
+   * @param elementsEquality compares an actual element with a sequence element.
+   * @param sequenceElementsEquality compares sequence elements with each other.
+   * @param transitiveEquality whether the given equalities are transitive.
+   * @return the index of the first occurrence of the sequence in actual or -1.
+   */
+  static int indexOfSequence(int actualSize, int sequenceSize, ElementsEquality elementsEquality,
+                             ElementsEquality sequenceElementsEquality, boolean transitiveEquality) {
+    return transitiveEquality
+        ? knuthMorrisPrattIndexOf(actualSize, sequenceSize, elementsEquality, sequenceElementsEquality)
+        : naiveIndexOf(actualSize, sequenceSize, elementsEquality);
+  }
+
+  /**
+   * Returns true if actual contains the sequence.
+   * <p>
+   * Unlike {@link #indexOfSequence(int, int, ElementsEquality, ElementsEquality, boolean)}, the linear search is
+   * attempted even if the equality is not transitive since a match it finds is easy to check, actual is only scanned at
+   * every index when no match is found.
+   *
+   * @param actualSize the number of actual elements.
+   * @param sequenceSize the number of sequence elements.
+   * @param elementsEquality compares an actual element with a sequence element.
+   * @param sequenceElementsEquality compares sequence elements with each other.
+   * @param transitiveEquality whether the given equalities are transitive.
+   * @return true if actual contains the sequence, false otherwise.
+   */
+  static boolean containsSequence(int actualSize, int sequenceSize, ElementsEquality elementsEquality,
+                                  ElementsEquality sequenceElementsEquality, boolean transitiveEquality) {
+    int index = knuthMorrisPrattIndexOf(actualSize, sequenceSize, elementsEquality, sequenceElementsEquality);
+    if (transitiveEquality) return index != -1;
+    if (index != -1 && containsSequenceAtGivenIndex(index, sequenceSize, elementsEquality)) return true;
+    return naiveIndexOf(actualSize, sequenceSize, elementsEquality) != -1;
+  }
+
+  private static int knuthMorrisPrattIndexOf(int actualSize, int sequenceSize, ElementsEquality elementsEquality,
+                                             ElementsEquality sequenceElementsEquality) {
+    if (sequenceSize == 0) return 0;
+    if (actualSize < sequenceSize) return -1;
+    int[] borders = bordersOf(sequenceSize, sequenceElementsEquality);
+    int matched = 0;
+    for (int i = 0; i < actualSize; i++) {
+      while (matched > 0 && !elementsEquality.areEqual(i, matched)) {
+        matched = borders[matched - 1];
+      }
+      if (elementsEquality.areEqual(i, matched)) matched++;
+      if (matched == sequenceSize) return i - sequenceSize + 1;
+    }
+    return -1;
+  }
+
+  // for each prefix of the sequence, the length of its longest proper prefix that is also a suffix
+  private static int[] bordersOf(int sequenceSize, ElementsEquality sequenceElementsEquality) {
+    int[] borders = new int[sequenceSize];
+    int border = 0;
+    for (int i = 1; i < sequenceSize; i++) {
+      while (border > 0 && !sequenceElementsEquality.areEqual(i, border)) {
+        border = borders[border - 1];
+      }
+      if (sequenceElementsEquality.areEqual(i, border)) border++;
+      borders[i] = border;
+    }
+    return borders;
+  }
+
+  private static int naiveIndexOf(int actualSize, int sequenceSize, ElementsEquality elementsEquality) {
+    for (int i = 0; i <= actualSize - sequenceSize; i++) {
+      if (containsSequenceAtGivenIndex(i, sequenceSize, elementsEquality)) return i;
+    }
+    return -1;
+  }
+
+  private static boolean containsSequenceAtGivenIndex(int startingIndex, int sequenceSize,
+                                                      ElementsEquality elementsEquality) {
+    for (int i = 0; i < sequenceSize; i++) {
+      if (!elementsEquality.areEqual(startingIndex + i, i)) return false;
+    }
+    return true;
+  }
+
+}
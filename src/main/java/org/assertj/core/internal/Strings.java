@@ -13,7 +13,9 @@
 package org.assertj.core.internal;
 
 import static java.lang.Character.isDigit;
+import static java.lang.Character.isSurrogate;
 import static java.lang.Character.isWhitespace;
+import static java.lang.Character.toLowerCase;
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
@@ -67,7 +69,9 @@ import static org.assertj.core.internal.CommonValidations.checkSameSizes;
 import static org.assertj.core.internal.CommonValidations.checkSizeBetween;
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
+import static org.assertj.core.internal.Sequences.containsSequence;
 import static org.assertj.core.util.Preconditions.checkNotNull;
+import static org.assertj.core.util.xml.XmlEventsComparator.haveSamePrettyFormat;
 import static org.assertj.core.util.xml.XmlStringPrettyFormatter.xmlPrettyFormat;
 
 import java.io.IOException;
@@ -75,6 +79,7 @@ import java.io.LineNumberReader;
 import java.io.StringReader;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -99,6 +104,9 @@ public class Strings {
   @VisibleForTesting
   Failures failures = Failures.instance();
 
+  @VisibleForTesting
+  PatternCache patternCache = PatternCache.instance();
+
   /**
    * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
    *
@@ -510,10 +518,40 @@ public class Strings {
   public void assertContainsIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence sequence) {
     checkCharSequenceIsNotNull(sequence);
     assertNotNull(info, actual);
-    if (!actual.toString().toLowerCase().contains(sequence.toString().toLowerCase()))
+    if (!containsIgnoringCase(actual, sequence))
       throw failures.failure(info, shouldContainIgnoringCase(actual, sequence));
   }
 
+  // same as actual.toString().toLowerCase().contains(sequence.toString().toLowerCase()) without lower case copies
+  private static boolean containsIgnoringCase(CharSequence actual, CharSequence sequence) {
+    if (!haveCharByCharLowerCase(actual) || !haveCharByCharLowerCase(sequence))
+      return actual.toString().toLowerCase().contains(sequence.toString().toLowerCase());
+    int lastStart = actual.length() - sequence.length();
+    for (int start = 0; start <= lastStart; start++) {
+      if (regionEqualsIgnoringCase(actual, start, sequence)) return true;
+    }
+    return false;
+  }
+
+  private static boolean regionEqualsIgnoringCase(CharSequence actual, int start, CharSequence sequence) {
+    for (int i = 0; i < sequence.length(); i++) {
+      if (toLowerCase(actual.charAt(start + i)) != toLowerCase(sequence.charAt(i))) return false;
+    }
+    return true;
+  }
+
+  // String.toLowerCase() lower cases each char on its own except for some locales and characters
+  private static boolean haveCharByCharLowerCase(CharSequence text) {
+    String language = Locale.getDefault().getLanguage();
+    if ("tr".equals(language) || "az".equals(language) || "lt".equals(language)) return false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      // dotted capital I is lower cased to two chars, capital sigma depending on its position in a word
+      if (c == '\u0130' || c == '\u03A3' || isSurrogate(c)) return false;
+    }
+    return true;
+  }
+
   /**
    * Verifies that the given {@code CharSequence} does not contain any one of the given values.
    *
@@ -581,9 +619,7 @@ public class Strings {
    * @throws AssertionError if the given {@code CharSequence}s are equal after normalizing newlines.
    */
   public void assertIsEqualToNormalizingNewlines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String actualNormalized = normalizeNewlines(actual);
-    String expectedNormalized = normalizeNewlines(expected);
-    if (!actualNormalized.equals(expectedNormalized))
+    if (!areEqualNormalizingNewlines(actual, expected))
       throw failures.failure(info, shouldBeEqualIgnoringNewLineDifferences(actual, expected), actual, expected);
   }
 
@@ -591,6 +627,37 @@ public class Strings {
     return actual.toString().replace("\r\n", "\n");
   }
 
+  // same as normalizeNewlines(actual).equals(normalizeNewlines(expected)) without normalized copies
+  private static boolean areEqualNormalizingNewlines(CharSequence actual, CharSequence expected) {
+    int i = 0;
+    int j = 0;
+    while (i < actual.length() && j < expected.length()) {
+      boolean actualNewline = isNewlineAt(actual, i);
+      if (actualNewline != isNewlineAt(expected, j)) return false;
+      if (actualNewline) {
+        i = nextIndexAfterNewline(actual, i);
+        j = nextIndexAfterNewline(expected, j);
+      } else {
+        if (actual.charAt(i) != expected.charAt(j)) return false;
+        i++;
+        j++;
+      }
+    }
+    return i == actual.length() && j == expected.length();
+  }
+
+  private static boolean isNewlineAt(CharSequence text, int index) {
+    return text.charAt(index) == '\n' || isCarriageReturnNewlineAt(text, index);
+  }
+
+  private static int nextIndexAfterNewline(CharSequence text, int index) {
+    return isCarriageReturnNewlineAt(text, index) ? index + 2 : index + 1;
+  }
+
+  private static boolean isCarriageReturnNewlineAt(CharSequence text, int index) {
+    return text.charAt(index) == '\r' && index + 1 < text.length() && text.charAt(index + 1) == '\n';
+  }
+
   /**
    * Verifies that two {@code CharSequence}s are equal, ignoring any differences in whitespace.
    *
@@ -620,19 +687,21 @@ public class Strings {
   private boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return removeAllWhitespaces(actual).equals(removeAllWhitespaces(expected));
+    // walk both sequences skipping whitespaces instead of comparing copies without whitespaces
+    int i = skipWhitespaces(actual, 0, actual.length());
+    int j = skipWhitespaces(expected, 0, expected.length());
+    while (i < actual.length() && j < expected.length()) {
+      if (actual.charAt(i) != expected.charAt(j)) return false;
+      i = skipWhitespaces(actual, i + 1, actual.length());
+      j = skipWhitespaces(expected, j + 1, expected.length());
+    }
+    return i == actual.length() && j == expected.length();
   }
 
-  private String removeAllWhitespaces(CharSequence toBeStripped) {
-    final StringBuilder result = new StringBuilder(toBeStripped.length());
-    for (int i = 0; i < toBeStripped.length(); i++) {
-      char c = toBeStripped.charAt(i);
-      if (isWhitespace(c)) {
-        continue;
-      }
-      result.append(c);
-    }
-    return result.toString();
+  private static int skipWhitespaces(CharSequence text, int start, int end) {
+    int index = start;
+    while (index < end && isWhitespace(text.charAt(index))) index++;
+    return index;
   }
 
   /**
@@ -668,23 +737,42 @@ public class Strings {
   private boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return normalizeWhitespace(actual).equals(normalizeWhitespace(expected));
-  }
-
-  private String normalizeWhitespace(CharSequence toNormalize) {
-    final StringBuilder result = new StringBuilder(toNormalize.length());
-    boolean lastWasSpace = true;
-    for (int i = 0; i < toNormalize.length(); i++) {
-      char c = toNormalize.charAt(i);
-      if (isWhitespace(c)) {
-        if (!lastWasSpace) result.append(' ');
-        lastWasSpace = true;
+    // whitespaces are normalized while walking both sequences: the normalized sequence is made of the chars between
+    // the first and last ones that are not trimmed, where each run of whitespaces is replaced by a single space.
+    int actualEnd = trimmedEnd(actual);
+    int expectedEnd = trimmedEnd(expected);
+    int i = trimmedStart(actual, actualEnd);
+    int j = trimmedStart(expected, expectedEnd);
+    while (i < actualEnd && j < expectedEnd) {
+      char actualChar = actual.charAt(i);
+      char expectedChar = expected.charAt(j);
+      if (isWhitespace(actualChar) && isWhitespace(expectedChar)) {
+        i = skipWhitespaces(actual, i, actualEnd);
+        j = skipWhitespaces(expected, j, expectedEnd);
       } else {
-        result.append(c);
-        lastWasSpace = false;
+        if (actualChar != expectedChar) return false;
+        i++;
+        j++;
       }
     }
-    return result.toString().trim();
+    return i == actualEnd && j == expectedEnd;
+  }
+
+  private static int trimmedStart(CharSequence text, int end) {
+    int start = 0;
+    while (start < end && isTrimmedOnceNormalized(text.charAt(start))) start++;
+    return start;
+  }
+
+  private static int trimmedEnd(CharSequence text) {
+    int end = text.length();
+    while (end > 0 && isTrimmedOnceNormalized(text.charAt(end - 1))) end--;
+    return end;
+  }
+
+  // whitespaces are normalized to spaces, String.trim() then removes them along with the other control chars
+  private static boolean isTrimmedOnceNormalized(char c) {
+    return isWhitespace(c) || c <= ' ';
   }
 
   /**
@@ -816,7 +904,7 @@ public class Strings {
   public void assertMatches(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (!Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldMatch(actual, regex));
+    if (!compile(regex).matcher(actual).matches()) throw failures.failure(info, shouldMatch(actual, regex));
   }
 
   /**
@@ -833,13 +921,17 @@ public class Strings {
   public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldNotMatch(actual, regex));
+    if (compile(regex).matcher(actual).matches()) throw failures.failure(info, shouldNotMatch(actual, regex));
   }
 
   private void checkRegexIsNotNull(CharSequence regex) {
     if (regex == null) throw patternToMatchIsNull();
   }
 
+  private Pattern compile(CharSequence regex) {
+    return patternCache.compile(regex.toString());
+  }
+
   /**
    * Verifies that the given {@code CharSequence} matches the given regular expression.
    *
@@ -911,13 +1003,19 @@ public class Strings {
     if (sequence.length == 1) return; // no order check needed for a one element sequence
 
     // convert all values to one char sequence to compare with the actual char sequence
-    String strActual = actual.toString();
     String strSequence = stream(sequence).collect(joining());
-    if (!stringContains(strActual, strSequence)) {
+    if (!containsJoinedSequence(actual, strSequence)) {
       throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
     }
   }
 
+  private boolean containsJoinedSequence(CharSequence actual, String sequence) {
+    if (!comparisonStrategy.isStandard()) return stringContains(actual, sequence);
+    // the joined sequence can be long, look for it in linear time
+    return containsSequence(actual.length(), sequence.length(), (i, j) -> actual.charAt(i) == sequence.charAt(j),
+                            (i, j) -> sequence.charAt(i) == sequence.charAt(j), true);
+  }
+
   /**
    * Verifies that the actual {@code CharSequence} contains all the given values <b>in the given order
    * (possibly with other values between them)</b>.
@@ -980,8 +1078,14 @@ public class Strings {
     checkCharSequenceIsNotNull(expectedXml);
     assertNotNull(info, actualXml);
     // we only use default comparison strategy, it does not make sense to use a specific comparison strategy
-    final String formattedActualXml = xmlPrettyFormat(actualXml.toString());
-    final String formattedExpectedXml = xmlPrettyFormat(expectedXml.toString());
+    String actualXmlString = actualXml.toString();
+    String expectedXmlString = expectedXml.toString();
+    // compare documents while parsing them, only format them if they may differ
+    if (comparisonStrategy.isStandard()
+        && haveSamePrettyFormat(actualXmlString, expectedXmlString))
+      return;
+    final String formattedActualXml = xmlPrettyFormat(actualXmlString);
+    final String formattedExpectedXml = xmlPrettyFormat(expectedXmlString);
     if (!comparisonStrategy.areEqual(formattedActualXml, formattedExpectedXml))
       throw failures.failure(info, shouldBeEqual(formattedActualXml, formattedExpectedXml, comparisonStrategy,
                                                  info.representation()));
@@ -1008,7 +1112,7 @@ public class Strings {
   public void assertContainsPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = compile(regex);
     Matcher matcher = pattern.matcher(actual);
     if (!matcher.find()) throw failures.failure(info, shouldContainPattern(actual, pattern.pattern()));
   }
@@ -1043,7 +1147,7 @@ public class Strings {
    */
   public void assertDoesNotContainPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = compile(regex);
     assertDoesNotContainPattern(info, actual, pattern);
   }
 
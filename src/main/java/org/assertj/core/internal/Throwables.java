@@ -58,6 +58,9 @@ public class Throwables {
   @VisibleForTesting
   Failures failures = Failures.instance();
 
+  @VisibleForTesting
+  PatternCache patternCache = PatternCache.instance();
+
   @VisibleForTesting
   Throwables() {}
 
@@ -189,7 +192,7 @@ public class Throwables {
   public void assertHasMessageMatching(AssertionInfo info, Throwable actual, String regex) {
     checkNotNull(regex, "regex must not be null");
     assertNotNull(info, actual);
-    if (actual.getMessage() != null && actual.getMessage().matches(regex)) return;
+    if (actual.getMessage() != null && patternCache.compile(regex).matcher(actual.getMessage()).matches()) return;
     throw failures.failure(info, shouldHaveMessageMatchingRegex(actual, regex));
   }
 
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.util.DoubleComparator;
 import org.assertj.core.util.FloatComparator;
@@ -50,8 +51,13 @@ public class TypeComparators {
     }
   };
 
+  // cached "no comparator" resolution as ConcurrentHashMap does not support null values
+  private static final Comparator<Object> NO_COMPARATOR = (o1, o2) -> 0;
+
   @VisibleForTesting
   Map<Class<?>, Comparator<?>> typeComparators;
+  // the comparator resolved for each class looked up, cleared when a comparator is registered
+  private final Map<Class<?>, Comparator<?>> resolvedComparators = new ConcurrentHashMap<>();
 
   public static TypeComparators defaultTypeComparators() {
     TypeComparators comparatorByType = new TypeComparators();
@@ -76,6 +82,15 @@ public class TypeComparators {
    * @return the most relevant comparator, or {@code null} if no comparator could be found
    */
   public Comparator<?> get(Class<?> clazz) {
+    Comparator<?> comparator = resolvedComparators.get(clazz);
+    if (comparator == null) {
+      comparator = resolve(clazz);
+      resolvedComparators.put(clazz, comparator == null ? NO_COMPARATOR : comparator);
+    }
+    return comparator == NO_COMPARATOR ? null : comparator;
+  }
+
+  private Comparator<?> resolve(Class<?> clazz) {
     Comparator<?> comparator = typeComparators.get(clazz);
     if (comparator == null) {
       for (Class<?> superClass : ClassUtils.getAllSuperclasses(clazz)) {
@@ -101,6 +116,7 @@ public class TypeComparators {
    */
   public <T> void put(Class<T> clazz, Comparator<? super T> comparator) {
     typeComparators.put(clazz, comparator);
+    resolvedComparators.clear();
   }
 
   /**
@@ -26,6 +26,7 @@ import java.io.File;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -95,6 +97,15 @@ public class StandardRepresentation implements Representation {
 
   private static int maxElementsForPrinting = 1000;
 
+  // whether a representation overrides one of the methods laying out iterables and arrays, if so smartFormat goes
+  // through them instead of describing the elements in a single pass
+  private static final ClassValue<Boolean> OVERRIDES_LAYOUT_METHODS = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> representationType) {
+      return overridesLayoutMethods(representationType);
+    }
+  };
+
   /**
    * It resets the static defaults for the standard representation.
    * <p>
@@ -335,6 +346,8 @@ public class StandardRepresentation implements Representation {
   }
 
   private static Map<?, ?> toSortedMapIfPossible(Map<?, ?> map) {
+    // already sorted by natural ordering, no need to copy it
+    if (map instanceof SortedMap && ((SortedMap<?, ?>) map).comparator() == null) return map;
     try {
       return new TreeMap<>(map);
     } catch (ClassCastException | NullPointerException e) {
@@ -406,12 +419,40 @@ public class StandardRepresentation implements Representation {
     return format(iterable, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, alreadyFormatted);
   }
 
+  /**
+   * Returns the {@code String} representation of the given array formatted like {@link #smartFormat(Iterable)} does,
+   * nested arrays being formatted with the same layout as the given array.
+   * <p>
+   * Subclasses overriding {@link #singleLineFormat(Object[], Set)}, {@link #multiLineFormat(Object[], Set)} or
+   * {@link #format(Object[], String, String, Set)} have their overrides used to lay out the elements.
+   *
+   * @param iterable the array to format.
+   * @return the {@code String} representation of the given array.
+   */
   protected String smartFormat(Object[] iterable) {
+    if (iterable == null) return null;
+    if (iterable.length == 0) return DEFAULT_START + DEFAULT_END;
     Set<Object[]> alreadyFormatted = new HashSet<>();
-    String singleLineDescription = singleLineFormat(iterable, alreadyFormatted);
-    return doesDescriptionFitOnSingleLine(singleLineDescription)
-        ? singleLineDescription
-        : multiLineFormat(iterable, alreadyFormatted);
+    if (OVERRIDES_LAYOUT_METHODS.get(getClass())) {
+      String singleLineDescription = singleLineFormat(iterable, alreadyFormatted);
+      return doesDescriptionFitOnSingleLine(singleLineDescription)
+          ? singleLineDescription
+          : multiLineFormat(iterable, alreadyFormatted);
+    }
+    alreadyFormatted.add(iterable); // used to avoid infinite recursion when array contains itself
+    SmartDescription description = new SmartDescription(alreadyFormatted);
+    for (int i = 0; i < iterable.length; i++) {
+      if (i == maxElementsForPrinting) {
+        description.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+        break;
+      }
+      Object element = iterable[i];
+      if (!isArray(element)) description.append(element == null ? NULL : toStringOf(element));
+      else if (isArrayTypePrimitive(element)) description.append(formatPrimitiveArray(element));
+      else if (alreadyFormatted.contains(element)) description.append("(this array)");
+      else description.append((Object[]) element);
+    }
+    return description.end();
   }
 
   protected String format(Object[] array, String elementSeparator,
@@ -511,17 +552,119 @@ public class StandardRepresentation implements Representation {
    * <p>
    * The {@code Iterable} will be formatted to a single line if it does not exceed 100 char, otherwise each elements
    * will be formatted on a new line with 4 space indentation.
+   * <p>
+   * Subclasses overriding {@link #singleLineFormat(Iterable, String, String)}, {@link #multiLineFormat(Iterable)} or
+   * {@link #format(Iterable, String, String, String, String)} have their overrides used to lay out the elements.
    *
    * @param iterable the {@code Iterable} to format.
    * @return the {@code String} representation of the given {@code Iterable}.
    */
   protected String smartFormat(Iterable<?> iterable) {
-    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    if (iterable == null) return null;
+    Iterator<?> iterator = iterable.iterator();
+    if (!iterator.hasNext()) return DEFAULT_START + DEFAULT_END;
+    if (OVERRIDES_LAYOUT_METHODS.get(getClass())) {
+      String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
+      return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    }
+    SmartDescription description = new SmartDescription(null);
+    int printedElements = 0;
+    while (iterator.hasNext()) {
+      Object element = iterator.next();
+      if (printedElements == maxElementsForPrinting) {
+        description.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+        break;
+      }
+      description.append(element == iterable ? "(this Collection)" : toStringOf(element));
+      printedElements++;
+    }
+    return description.end();
   }
 
   private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
     return singleLineDescription == null || singleLineDescription.length() < maxLengthForSingleLineDescription;
   }
 
+  private static boolean overridesLayoutMethods(Class<?> representationType) {
+    for (Class<?> type = representationType; type != StandardRepresentation.class; type = type.getSuperclass()) {
+      if (declares(type, "singleLineFormat", Iterable.class, String.class, String.class)
+          || declares(type, "multiLineFormat", Iterable.class)
+          || declares(type, "format", Iterable.class, String.class, String.class, String.class, String.class)
+          || declares(type, "singleLineFormat", Object[].class, Set.class)
+          || declares(type, "multiLineFormat", Object[].class, Set.class)
+          || declares(type, "format", Object[].class, String.class, String.class, Set.class)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean declares(Class<?> type, String methodName, Class<?>... parameterTypes) {
+    try {
+      type.getDeclaredMethod(methodName, parameterTypes);
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Describes elements in a single pass: elements are described on a single line until the description gets too long
+   * to fit on it, the elements described so far are then laid out on separate lines without being formatted again,
+   * except nested arrays which follow the layout of their enclosing array.
+   */
+  private class SmartDescription {
+
+    private final StringBuilder description = new StringBuilder(DEFAULT_START);
+    private final Set<Object[]> alreadyFormatted;
+    // elements described on a single line so far (the nested arrays or null for other elements and their descriptions),
+    // null once elements are described on separate lines
+    private List<Object[]> singleLineNestedArrays = new ArrayList<>();
+    private List<String> singleLineElementsDescriptions = new ArrayList<>();
+
+    private SmartDescription(Set<Object[]> alreadyFormatted) {
+      this.alreadyFormatted = alreadyFormatted;
+    }
+
+    private void append(String elementDescription) {
+      append(null, elementDescription);
+    }
+
+    private void append(Object[] nestedArray) {
+      boolean singleLine = singleLineNestedArrays != null;
+      append(nestedArray, singleLine
+          ? format(nestedArray, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, alreadyFormatted)
+          : format(nestedArray, ELEMENT_SEPARATOR_WITH_NEWLINE, INDENTATION_AFTER_NEWLINE, alreadyFormatted));
+    }
+
+    private void append(Object[] nestedArray, String elementDescription) {
+      if (singleLineNestedArrays == null) {
+        description.append(ELEMENT_SEPARATOR_WITH_NEWLINE).append(INDENTATION_AFTER_NEWLINE).append(elementDescription);
+        return;
+      }
+      if (!singleLineNestedArrays.isEmpty()) description.append(ELEMENT_SEPARATOR).append(INDENTATION_FOR_SINGLE_LINE);
+      description.append(elementDescription);
+      singleLineNestedArrays.add(nestedArray);
+      singleLineElementsDescriptions.add(elementDescription);
+      if (description.length() + DEFAULT_END.length() >= maxLengthForSingleLineDescription) switchToMultiLine();
+    }
+
+    private void switchToMultiLine() {
+      description.setLength(DEFAULT_START.length());
+      for (int i = 0; i < singleLineNestedArrays.size(); i++) {
+        if (i != 0) description.append(ELEMENT_SEPARATOR_WITH_NEWLINE).append(INDENTATION_AFTER_NEWLINE);
+        Object[] nestedArray = singleLineNestedArrays.get(i);
+        description.append(nestedArray == null
+            ? singleLineElementsDescriptions.get(i)
+            : format(nestedArray, ELEMENT_SEPARATOR_WITH_NEWLINE, INDENTATION_AFTER_NEWLINE, alreadyFormatted));
+      }
+      singleLineNestedArrays = null;
+      singleLineElementsDescriptions = null;
+    }
+
+    private String end() {
+      return description.append(DEFAULT_END).toString();
+    }
+  }
+
 }
@@ -20,7 +20,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -31,8 +31,6 @@ import java.util.function.Function;
  * @author Daniel Zlotin
  */
 public final class Throwables {
-  private static final String ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER = "org.assertj.core.error.ConstructorInvoker";
-  private static final String JAVA_LANG_REFLECT_CONSTRUCTOR = "java.lang.reflect.Constructor";
   private static final String ORG_ASSERTJ = "org.assert";
 
   private static final Function<Throwable, String> ERROR_DESCRIPTION_EXTRACTOR = throwable -> {
@@ -68,16 +66,12 @@ public final class Throwables {
   }
 
   private static List<StackTraceElement> stackTraceInCurrentThread(String methodToStartFrom) {
-    List<StackTraceElement> filtered = stackTraceInCurrentThread();
-    List<StackTraceElement> toRemove = new ArrayList<>();
-    for (StackTraceElement e : filtered) {
-      if (methodToStartFrom.equals(e.getMethodName())) {
-        break;
-      }
-      toRemove.add(e);
+    List<StackTraceElement> stackTrace = stackTraceInCurrentThread();
+    int start = 0;
+    while (start < stackTrace.size() && !methodToStartFrom.equals(stackTrace.get(start).getMethodName())) {
+      start++;
     }
-    filtered.removeAll(toRemove);
-    return filtered;
+    return stackTrace.subList(start, stackTrace.size());
   }
 
   private static List<StackTraceElement> stackTraceInCurrentThread() {
@@ -88,11 +82,8 @@ public final class Throwables {
    * Removes the AssertJ-related elements from the <code>{@link Throwable}</code> stack trace that have little value for
    * end user. Therefore, instead of seeing this:
    * <pre><code class='java'> org.junit.ComparisonFailure: expected:&lt;'[Ronaldo]'&gt; but was:&lt;'[Messi]'&gt;
-   *   at sun.reflect.NativeConstructorAccessorImpl.newInstance0(Native Method)
-   *   at sun.reflect.NativeConstructorAccessorImpl.newInstance(NativeConstructorAccessorImpl.java:39)
-   *   at sun.reflect.DelegatingConstructorAccessorImpl.newInstance(DelegatingConstructorAccessorImpl.java:27)
-   *   at java.lang.reflect.Constructor.newInstance(Constructor.java:501)
-   *   at org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34)
+   *   at org.assertj.core.error.ConstructorInvoker$ResolvedConstructor.newInstance(ConstructorInvoker.java:91)
+   *   at org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:54)
    *   at org.assertj.core.error.ShouldBeEqual.newComparisonFailure(ShouldBeEqual.java:111)
    *   at org.assertj.core.error.ShouldBeEqual.comparisonFailure(ShouldBeEqual.java:103)
    *   at org.assertj.core.error.ShouldBeEqual.newAssertionError(ShouldBeEqual.java:81)
@@ -103,35 +94,18 @@ public final class Throwables {
    *
    * We get this:
    * <pre><code class='java'> org.junit.ComparisonFailure: expected:&lt;'[Ronaldo]'&gt; but was:&lt;'[Messi]'&gt;
-   *   at sun.reflect.NativeConstructorAccessorImpl.newInstance0(Native Method)
-   *   at sun.reflect.NativeConstructorAccessorImpl.newInstance(NativeConstructorAccessorImpl.java:39)
-   *   at sun.reflect.DelegatingConstructorAccessorImpl.newInstance(DelegatingConstructorAccessorImpl.java:27)
-   *   at examples.StackTraceFilterExample.main(StackTraceFilterExample.java:20)</code></pre>
+   *   at examples.StackTraceFilterExample.main(StackTraceFilterExample.java:13)</code></pre>
    * @param throwable the {@code Throwable} to filter stack trace.
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
     if (throwable == null) return;
-    List<StackTraceElement> filtered = newArrayList(throwable.getStackTrace());
-    StackTraceElement previous = null;
-    for (StackTraceElement element : throwable.getStackTrace()) {
-      if (element.getClassName().contains(ORG_ASSERTJ)) {
-        filtered.remove(element);
-        // Handle the case when AssertJ builds a ComparisonFailure/AssertionFailedError by reflection
-        // (see ShouldBeEqual.newAssertionError method), the stack trace looks like:
-        //
-        // java.lang.reflect.Constructor.newInstance(Constructor.java:501),
-        // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
-        //
-        // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ.
-        if (previous != null && JAVA_LANG_REFLECT_CONSTRUCTOR.equals(previous.getClassName())
-            && element.getClassName().contains(ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER)) {
-          filtered.remove(previous);
-        }
-      }
-      previous = element;
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    StackTraceElement[] filtered = new StackTraceElement[stackTrace.length];
+    int filteredSize = 0;
+    for (StackTraceElement element : stackTrace) {
+      if (!element.getClassName().contains(ORG_ASSERTJ)) filtered[filteredSize++] = element;
     }
-    StackTraceElement[] newStackTrace = filtered.toArray(new StackTraceElement[filtered.size()]);
-    throwable.setStackTrace(newStackTrace);
+    throwable.setStackTrace(Arrays.copyOf(filtered, filteredSize));
   }
 
   /**
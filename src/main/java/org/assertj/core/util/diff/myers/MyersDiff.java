@@ -15,8 +15,14 @@ package org.assertj.core.util.diff.myers;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkState;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.util.diff.ChangeDelta;
 import org.assertj.core.util.diff.Chunk;
@@ -40,34 +46,80 @@ import org.assertj.core.util.diff.Patch;
  */
 public class MyersDiff<T> implements DiffAlgorithm<T> {
 
+  /**
+   * Edit distance up to which the differences are searched with the greedy algorithm, its path nodes take memory
+   * proportional to the edit distance squared so larger differences are searched in linear space.
+   */
+  private static final int GREEDY_MAX_EDIT_DISTANCE = 256;
+
+  /** Default edit distance after which the remaining differences of a part of the sequences are a single change. */
+  public static final int DEFAULT_MAX_EDIT_DISTANCE = 2_000;
+
   /** The equalizer. */
   private final Equalizer<T> equalizer;
 
+  private final int maxEditDistance;
+
+  private final long timeoutMillis;
+
   /**
-   * Constructs an instance of the Myers differencing algorithm.
+   * Constructs an instance of the Myers differencing algorithm searching at most {@value #DEFAULT_MAX_EDIT_DISTANCE}
+   * inserted and deleted elements in a part of the sequences, without time limit.
+   * <p>
+   * The search thus only depends on the compared sequences, the same sequences always give the same differences.
    */
   public MyersDiff() {
+    this(DEFAULT_MAX_EDIT_DISTANCE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an instance of the Myers differencing algorithm bounding the search of differences.
+   * <p>
+   * The differences found before reaching one of the bounds are reported as usual, the remaining ones are reported as
+   * a single change covering the rest of the compared sequences.
+   *
+   * @param maxEditDistance the maximum number of inserted and deleted elements searched in a part of the sequences.
+   * @param timeoutMillis the time in milliseconds after which the search stops, {@link Long#MAX_VALUE} for no limit. As
+   *          it depends on the machine load, the differences found for the same sequences may vary from one run to
+   *          another.
+   */
+  public MyersDiff(int maxEditDistance, long timeoutMillis) {
+    checkArgument(maxEditDistance >= 0, "maxEditDistance must not be negative");
+    checkArgument(timeoutMillis >= 0, "timeoutMillis must not be negative");
     /**	Default equalizer. */
     equalizer = (original, revised) -> original.equals(revised);
+    this.maxEditDistance = maxEditDistance;
+    this.timeoutMillis = timeoutMillis;
   }
 
   /**
    * {@inheritDoc}
-   *
-   * Return empty diff if get the error while procession the difference.
+   * <p>
+   * The common prefix and suffix of the sequences are skipped, small differences are then searched with the greedy
+   * algorithm and larger ones with its linear space variant which splits the sequences around their middle snake.
    */
   @Override
-  public Patch<T> diff(final List<T> original, final List<T> revised) {
+  public Patch<T> diff(List<T> original, List<T> revised) {
     checkArgument(original != null, "original list must not be null");
     checkArgument(revised != null, "revised list must not be null");
-    PathNode path;
-    try {
-      path = buildPath(original, revised);
-      return buildRevision(path, original, revised);
-    } catch (IllegalStateException e) {
-      e.printStackTrace();
-      return new Patch<>();
+    if (!(original instanceof RandomAccess)) original = new ArrayList<>(original);
+    if (!(revised instanceof RandomAccess)) revised = new ArrayList<>(revised);
+    int prefix = 0;
+    int minSize = Math.min(original.size(), revised.size());
+    while (prefix < minSize && equals(original.get(prefix), revised.get(prefix))) {
+      prefix++;
     }
+    int suffix = 0;
+    while (suffix < minSize - prefix
+           && equals(original.get(original.size() - 1 - suffix), revised.get(revised.size() - 1 - suffix))) {
+      suffix++;
+    }
+    List<T> orig = original.subList(prefix, original.size() - suffix);
+    List<T> rev = revised.subList(prefix, revised.size() - suffix);
+    if (orig.isEmpty() && rev.isEmpty()) return new Patch<>();
+    PathNode path = buildPath(orig, rev, Math.min(GREEDY_MAX_EDIT_DISTANCE, maxEditDistance));
+    if (path != null) return buildRevision(path, orig, rev, prefix);
+    return new LinearSpaceSearch(orig, rev).diff(prefix);
   }
 
   /**
@@ -83,6 +135,19 @@ public class MyersDiff<T> implements DiffAlgorithm<T> {
   public PathNode buildPath(final List<T> orig, final List<T> rev) {
     checkArgument(orig != null, "original sequence is null");
     checkArgument(rev != null, "revised sequence is null");
+    PathNode path = buildPath(orig, rev, Integer.MAX_VALUE);
+    // According to Myers, this cannot happen
+    checkState(path != null, "could not find a diff path");
+    return path;
+  }
+
+  /**
+   * Computes the minimum diffpath with the greedy algorithm giving up when the edit distance exceeds the given one.
+   *
+   * @return A minimum {@link PathNode Path} across the differences graph or {@code null} if the sequences differ by
+   *         more than the given edit distance.
+   */
+  private PathNode buildPath(final List<T> orig, final List<T> rev, int maxEditDistance) {
 
     // these are local constants
     final int N = orig.size();
@@ -94,7 +159,7 @@ public class MyersDiff<T> implements DiffAlgorithm<T> {
     final PathNode diagonal[] = new PathNode[size];
 
     diagonal[middle + 1] = new Snake(0, -1, null);
-    for (int d = 0; d < MAX; d++) {
+    for (int d = 0; d < MAX && d <= maxEditDistance; d++) {
       for (int k = -d; k <= d; k += 2) {
         final int kmiddle = middle + k;
         final int kplus = kmiddle + 1;
@@ -131,9 +196,7 @@ public class MyersDiff<T> implements DiffAlgorithm<T> {
       }
       diagonal[middle + d - 1] = null;
     }
-
-    // According to Myers, this cannot happen
-    throw new IllegalStateException("could not find a diff path");
+    return null;
   }
 
   private boolean equals(T orig, T rev) {
@@ -152,7 +215,14 @@ public class MyersDiff<T> implements DiffAlgorithm<T> {
     checkArgument(path != null, "path is null");
     checkArgument(orig != null, "original sequence is null");
     checkArgument(rev != null, "revised sequence is null");
+    return buildRevision(path, orig, rev, 0);
+  }
 
+  /**
+   * Constructs a {@link Patch} from a difference path between sequences starting at the given offset of the diffed
+   * ones.
+   */
+  private Patch<T> buildRevision(PathNode path, List<T> orig, List<T> rev, int offset) {
     Patch<T> patch = new Patch<>();
     if (path.isSnake())
       path = path.prev;
@@ -165,23 +235,20 @@ public class MyersDiff<T> implements DiffAlgorithm<T> {
       int ianchor = path.i;
       int janchor = path.j;
 
-      Chunk<T> original = new Chunk<>(ianchor, copyOfRange(orig, ianchor, i));
-      Chunk<T> revised = new Chunk<>(janchor, copyOfRange(rev, janchor, j));
-      Delta<T> delta;
-      if (original.size() == 0 && revised.size() != 0) {
-        delta = new InsertDelta<>(original, revised);
-      } else if (original.size() > 0 && revised.size() == 0) {
-        delta = new DeleteDelta<>(original, revised);
-      } else {
-        delta = new ChangeDelta<>(original, revised);
-      }
-
-      patch.addDelta(delta);
+      Chunk<T> original = new Chunk<>(offset + ianchor, copyOfRange(orig, ianchor, i));
+      Chunk<T> revised = new Chunk<>(offset + janchor, copyOfRange(rev, janchor, j));
+      patch.addDelta(delta(original, revised));
       if (path.isSnake()) path = path.prev;
     }
     return patch;
   }
 
+  private static <T> Delta<T> delta(Chunk<T> original, Chunk<T> revised) {
+    if (original.size() == 0 && revised.size() != 0) return new InsertDelta<>(original, revised);
+    if (original.size() > 0 && revised.size() == 0) return new DeleteDelta<>(original, revised);
+    return new ChangeDelta<>(original, revised);
+  }
+
   /**
    * Creates a new list containing the elements returned by {@link List#subList(int, int)}.
    * @param original The original sequence. Must not be {@code null}.
@@ -193,4 +260,155 @@ public class MyersDiff<T> implements DiffAlgorithm<T> {
   private List<T> copyOfRange(final List<T> original, final int fromIndex, final int to) {
     return new ArrayList<>(original.subList(fromIndex, to));
   }
+
+  /**
+   * Linear space variant of the algorithm described in section 4b of the paper: the middle snake of the shortest path
+   * is searched from both ends of a region, which is then split in two regions searched the same way.
+   * <p>
+   * Matched elements are recorded in bit sets, the unmatched ones between two matches make the deltas. A region left
+   * unsearched because the search timed out or exceeded the maximum edit distance thus ends up in a single change.
+   */
+  private class LinearSpaceSearch {
+
+    private final List<T> orig;
+    private final List<T> rev;
+    private final BitSet matchedOrig;
+    private final BitSet matchedRev;
+    private final long startNanos = System.nanoTime();
+
+    private LinearSpaceSearch(List<T> orig, List<T> rev) {
+      this.orig = orig;
+      this.rev = rev;
+      matchedOrig = new BitSet(orig.size());
+      matchedRev = new BitSet(rev.size());
+    }
+
+    private Patch<T> diff(int offset) {
+      // regions are {origStart, origEnd, revStart, revEnd}, left ones are searched first so that the differences
+      // found before a timeout are the first ones
+      Deque<int[]> regions = new ArrayDeque<>();
+      regions.push(new int[] { 0, orig.size(), 0, rev.size() });
+      while (!regions.isEmpty()) {
+        int[] region = regions.pop();
+        int i0 = region[0], i1 = region[1], j0 = region[2], j1 = region[3];
+        while (i0 < i1 && j0 < j1 && matches(i0, j0)) {
+          match(i0++, j0++);
+        }
+        while (i0 < i1 && j0 < j1 && matches(i1 - 1, j1 - 1)) {
+          match(--i1, --j1);
+        }
+        if (i0 == i1 || j0 == j1 || timedOut()) continue;
+        split(i0, i1, j0, j1, regions);
+      }
+      return buildPatch(offset);
+    }
+
+    /**
+     * Pushes the regions before and after the middle snake of the given one, or only the part searched before
+     * exceeding the maximum edit distance, or nothing on timeout.
+     */
+    private void split(int i0, int i1, int j0, int j1, Deque<int[]> regions) {
+      final int N = i1 - i0;
+      final int M = j1 - j0;
+      final int delta = N - M;
+      final boolean odd = (delta & 1) != 0;
+      final int maxD = (N + M + 1) / 2;
+      final int offset = maxD + 1;
+      // furthest reaching x on each diagonal, from the start for forward and from the end for backward
+      final int[] forward = new int[2 * offset + 1];
+      final int[] backward = new int[2 * offset + 1];
+      Arrays.fill(forward, -1);
+      Arrays.fill(backward, -1);
+      forward[offset + 1] = 0;
+      backward[offset + 1] = 0;
+      int furthestX = 0, furthestY = 0;
+      for (int d = 0; d <= maxD; d++) {
+        if (2 * d > maxEditDistance) {
+          // the forward paths found so far are part of the shortest path of the region before the furthest one
+          if (furthestX + furthestY < N + M) regions.push(new int[] { i0, i0 + furthestX, j0, j0 + furthestY });
+          return;
+        }
+        if (timedOut()) return;
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+              ? forward[offset + k + 1]
+              : forward[offset + k - 1] + 1;
+          int y = x - k;
+          if (x < 0 || x > N || y < 0 || y > M) continue;
+          while (x < N && y < M && matches(i0 + x, j0 + y)) {
+            x++;
+            y++;
+          }
+          forward[offset + k] = x;
+          if (x + y > furthestX + furthestY) {
+            furthestX = x;
+            furthestY = y;
+          }
+          int backwardK = delta - k;
+          if (odd && backwardK >= -(d - 1) && backwardK <= d - 1 && backward[offset + backwardK] >= 0
+              && x >= N - backward[offset + backwardK]) {
+            pushSplit(i0, i1, j0, j1, x, y, regions);
+            return;
+          }
+        }
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])
+              ? backward[offset + k + 1]
+              : backward[offset + k - 1] + 1;
+          int y = x - k;
+          if (x < 0 || x > N || y < 0 || y > M) continue;
+          while (x < N && y < M && matches(i1 - 1 - x, j1 - 1 - y)) {
+            x++;
+            y++;
+          }
+          backward[offset + k] = x;
+          int forwardK = delta - k;
+          if (!odd && forwardK >= -d && forwardK <= d && forward[offset + forwardK] >= 0
+              && forward[offset + forwardK] >= N - x) {
+            int forwardX = forward[offset + forwardK];
+            pushSplit(i0, i1, j0, j1, forwardX, forwardX - forwardK, regions);
+            return;
+          }
+        }
+      }
+    }
+
+    private void pushSplit(int i0, int i1, int j0, int j1, int x, int y, Deque<int[]> regions) {
+      regions.push(new int[] { i0 + x, i1, j0 + y, j1 });
+      regions.push(new int[] { i0, i0 + x, j0, j0 + y });
+    }
+
+    private boolean matches(int i, int j) {
+      return MyersDiff.this.equals(orig.get(i), rev.get(j));
+    }
+
+    private void match(int i, int j) {
+      matchedOrig.set(i);
+      matchedRev.set(j);
+    }
+
+    private boolean timedOut() {
+      return timeoutMillis != Long.MAX_VALUE
+             && System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    private Patch<T> buildPatch(int offset) {
+      Patch<T> patch = new Patch<>();
+      int i = 0, j = 0;
+      while (i <= orig.size() && j <= rev.size()) {
+        int iEnd = matchedOrig.nextSetBit(i);
+        int jEnd = matchedRev.nextSetBit(j);
+        if (iEnd < 0) iEnd = orig.size();
+        if (jEnd < 0) jEnd = rev.size();
+        if (iEnd > i || jEnd > j) {
+          patch.addDelta(delta(new Chunk<>(offset + i, copyOfRange(orig, i, iEnd)),
+                               new Chunk<>(offset + j, copyOfRange(rev, j, jEnd))));
+        }
+        // skips the matched elements
+        i = iEnd + 1;
+        j = jEnd + 1;
+      }
+      return patch;
+    }
+  }
 }
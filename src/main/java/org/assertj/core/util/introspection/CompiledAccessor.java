@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Reads a value from objects with a {@link MemberReader} resolved on first use for each class of the read objects.
+ * <p>
+ * Getters and methods of classes visible from AssertJ are called through a class generated by
+ * {@link LambdaMetafactory}, which performs a direct call, other members are read reflectively. The generated readers
+ * are shared by all accessors.
+ */
+abstract class CompiledAccessor implements Function<Object, Object> {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MemberReader NOT_COMPILABLE = target -> null;
+  private static final MemberCache<MemberReader> DIRECT_READERS = new MemberCache<>();
+
+  private final Map<Class<?>, MemberReader> readers = new ConcurrentHashMap<>();
+
+  @Override
+  public Object apply(Object target) {
+    MemberReader reader = readers.get(target.getClass());
+    if (reader == null) {
+      reader = compile(target);
+      // the member could not be resolved for this particular object, it is resolved again for the next one
+      if (reader == null) return readReflectively(target);
+      readers.put(target.getClass(), reader);
+    }
+    if (reader == NOT_COMPILABLE) return readReflectively(target);
+    try {
+      return reader.read(target);
+    } catch (Exception failure) {
+      return onFailure(target, failure);
+    }
+  }
+
+  /**
+   * Resolves the member to read in the given object class.
+   *
+   * @param target the object to read.
+   * @return the member reader, {@link #notCompilable()} if values must be read reflectively or {@code null} if the
+   *         member could not be resolved for this particular object.
+   */
+  abstract MemberReader compile(Object target);
+
+  abstract Object readReflectively(Object target);
+
+  /**
+   * Called when the member reader fails.
+   *
+   * @param target the read object.
+   * @param failure the exception thrown by the reader, the same as the reflective call would have thrown.
+   * @return the value to return instead.
+   */
+  abstract Object onFailure(Object target, Exception failure);
+
+  static MemberReader compile(Method method) {
+    if (isStatic(method.getModifiers())) return method::invoke;
+    MemberReader directReader = DIRECT_READERS.get(method.getDeclaringClass(), method.getName());
+    if (directReader == null) {
+      directReader = directReaderOf(method);
+      DIRECT_READERS.put(method.getDeclaringClass(), method.getName(), directReader);
+    }
+    return directReader != NOT_COMPILABLE ? directReader : method::invoke;
+  }
+
+  static MemberReader compile(Field field) {
+    MemberUtils.setAccessibleWorkaround(field);
+    return field::get;
+  }
+
+  static MemberReader notCompilable() {
+    return NOT_COMPILABLE;
+  }
+
+  private static MemberReader directReaderOf(Method method) {
+    Class<?> declaringClass = method.getDeclaringClass();
+    // the generated class must be able to link against the method
+    if (!isPublic(method.getModifiers()) || !isPublic(declaringClass.getModifiers())) return NOT_COMPILABLE;
+    if (!isVisibleFromAssertJ(declaringClass) || !isVisibleFromAssertJ(method.getReturnType())) return NOT_COMPILABLE;
+    try {
+      // unlike unreflect, findVirtual checks that the method is accessible without setAccessible
+      MethodHandle getter = LOOKUP.findVirtual(declaringClass, method.getName(), methodType(method.getReturnType()));
+      MemberReader reader = (MemberReader) LambdaMetafactory.metafactory(LOOKUP, "read", methodType(MemberReader.class),
+                                                                         methodType(Object.class, Object.class), getter,
+                                                                         methodType(Object.class, declaringClass))
+                                                            .getTarget().invokeExact();
+      return target -> {
+        try {
+          return reader.read(target);
+        } catch (Throwable failure) {
+          // as if the method was invoked reflectively
+          throw new InvocationTargetException(failure);
+        }
+      };
+    } catch (Throwable e) {
+      return NOT_COMPILABLE;
+    }
+  }
+
+  private static boolean isVisibleFromAssertJ(Class<?> type) {
+    if (type.isPrimitive()) return true;
+    try {
+      return Class.forName(type.getName(), false, CompiledAccessor.class.getClassLoader()) == type;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Reads a member value from an object.
+   */
+  interface MemberReader {
+    Object read(Object target) throws Exception;
+  }
+
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Optional;
 
 
 /**
@@ -29,9 +30,14 @@ import java.lang.reflect.Modifier;
  */
 public class FieldUtils {
 
+  // fields found by class and name regardless of their visibility, the access rules are checked on each lookup
+  private static final MemberCache<Optional<Field>> FIELDS = new MemberCache<>();
+
   /**
    * Gets an accessible <code>Field</code> by name breaking scope if requested. Superclasses/interfaces will be
    * considered.
+   * <p>
+   * Lookups (including the failed ones) are cached per class and field name.
    * 
    * @param cls the class to reflect, must not be null
    * @param fieldName the field name to obtain
@@ -44,6 +50,25 @@ public class FieldUtils {
   static Field getField(final Class<?> cls, String fieldName, boolean forceAccess) throws IllegalAccessException {
     checkArgument(cls != null, "The class must not be null");
     checkArgument(fieldName != null, "The field name must not be null");
+    Optional<Field> cached = FIELDS.get(cls, fieldName);
+    if (cached == null) {
+      cached = Optional.ofNullable(findField(cls, fieldName));
+      FIELDS.put(cls, fieldName, cached);
+    }
+    if (!cached.isPresent()) return null;
+    Field field = cached.get();
+    // interface fields are always public, only fields found in the superclass hierarchy can be restricted
+    if (!Modifier.isPublic(field.getModifiers())) {
+      if (forceAccess) {
+        if (!field.isAccessible()) field.setAccessible(true);
+      } else {
+        throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
+      }
+    }
+    return field;
+  }
+
+  private static Field findField(final Class<?> cls, String fieldName) {
     // Sun Java 1.3 has a bugged implementation of getField hence we write the
     // code ourselves
 
@@ -60,16 +85,8 @@ public class FieldUtils {
     // check up the superclass hierarchy
     for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
       try {
-        Field field = acls.getDeclaredField(fieldName);
         // getDeclaredField checks for non-public scopes as well and it returns accurate results
-        if (!Modifier.isPublic(field.getModifiers())) {
-          if (forceAccess) {
-            field.setAccessible(true);
-          } else {
-            throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
-          }
-        }
-        return field;
+        return acls.getDeclaredField(fieldName);
       } catch (NoSuchFieldException ex) { // NOPMD
         // ignore
       }
@@ -19,6 +19,7 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 import static org.assertj.core.util.Strings.quote;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
@@ -31,6 +32,8 @@ import java.lang.reflect.Modifier;
 public final class Introspection {
 
   private static boolean bareNamePropertyMethods = true;
+  // resolved getters by class and property name, replaced when the getter naming rules change
+  private static volatile MemberCache<Getter> getters = new MemberCache<>();
 
   /**
    * Returns the getter {@link Method} for a property matching the given name in the given object.
@@ -46,6 +49,10 @@ public final class Introspection {
   public static Method getPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     checkNotNull(target);
+    MemberCache<Getter> cachedGetters = getters;
+    Class<?> targetType = target.getClass();
+    Getter cached = cachedGetters.get(targetType, propertyName);
+    if (cached != null) return cached.method();
     Method getter;
     try {
       getter = findGetter(propertyName, target);
@@ -54,14 +61,30 @@ public final class Introspection {
         getter.setAccessible(true);
       }
       getter.invoke(target);
-    } catch (Exception t) {
+    } catch (InvocationTargetException t) {
+      // the getter exists but has failed for this target, it may succeed with other instances: don't cache it
       throw new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target), t);
+    } catch (Exception t) {
+      Getter notFound = new Getter(null, propertyNotFoundErrorMessage(propertyName, target), t);
+      cachedGetters.put(targetType, propertyName, notFound);
+      return notFound.method();
     }
+    cachedGetters.put(targetType, propertyName, new Getter(getter, null, null));
     return getter;
   }
 
+  /**
+   * Returns whether methods named after the property (e.g. {@code name()}) are used as property getters.
+   *
+   * @return whether bare name property methods are used as property getters.
+   */
+  public static boolean canExtractBareNamePropertyMethods() {
+    return bareNamePropertyMethods;
+  }
+
   public static void setExtractBareNamePropertyMethods(boolean barenamePropertyMethods) {
     Introspection.bareNamePropertyMethods = barenamePropertyMethods;
+    getters = new MemberCache<>();
   }
 
   private static String propertyNotFoundErrorMessage(String propertyName, Object target) {
@@ -103,5 +126,26 @@ public final class Introspection {
     return null;
   }
 
+  /**
+   * Getter lookup result, either the getter or the reason why it could not be found or accessed.
+   */
+  private static final class Getter {
+
+    private final Method method;
+    private final String errorMessage;
+    private final Throwable cause;
+
+    private Getter(Method method, String errorMessage, Throwable cause) {
+      this.method = method;
+      this.errorMessage = errorMessage;
+      this.cause = cause;
+    }
+
+    private Method method() {
+      if (method == null) throw new IntrospectionError(errorMessage, cause);
+      return method;
+    }
+  }
+
   private Introspection() {}
 }
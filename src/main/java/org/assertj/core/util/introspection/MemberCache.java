@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe cache of the members resolved by name in a class.
+ * <p>
+ * Entries are attached to their class with a {@link ClassValue}, the cache does not prevent classes (and their class
+ * loader) from being garbage collected.
+ *
+ * @param <T> the type of the cached entries.
+ */
+final class MemberCache<T> {
+
+  private final ClassValue<Map<String, T>> entriesByClass = new ClassValue<Map<String, T>>() {
+    @Override
+    protected Map<String, T> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  /**
+   * Returns the entry cached for the given class and member name, or {@code null} if none has been cached yet.
+   *
+   * @param type the class the member was resolved in.
+   * @param name the name of the member.
+   * @return the cached entry or {@code null}.
+   */
+  T get(Class<?> type, String name) {
+    return entriesByClass.get(type).get(name);
+  }
+
+  void put(Class<?> type, String name, T entry) {
+    entriesByClass.get(type).put(name, entry);
+  }
+
+}
@@ -18,6 +18,9 @@ import static org.assertj.core.util.Preconditions.checkNotNull;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 
 import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.assertj.core.util.introspection.CompiledAccessor.MemberReader;
 
 /**
  * Utility class for reflective method invocation.
@@ -53,6 +56,21 @@ public class MethodSupport {
     return invokeMethod(instance, method);
   }
 
+  /**
+   * Returns a function computing the result of the given method invocation on its input like
+   * {@link #methodResultFor(Object, String)} does, except that the method is resolved once per class and then called
+   * directly through a {@link java.lang.invoke.LambdaMetafactory} generated class when possible.
+   *
+   * @param methodName name of method to be invoked
+   * @return a function returning the result of the method invocation on its input
+   * @throws IllegalArgumentException if the method name is {@code null} or empty
+   */
+  public static Function<Object, Object> compiledMethodResultExtractorOf(String methodName) {
+    checkNotNullOrEmpty(methodName, "Method name can not be empty!");
+    MethodResultAccessor accessor = new MethodResultAccessor(methodName);
+    return instance -> accessor.apply(checkNotNull(instance, "Object instance can not be null!"));
+  }
+
   private static Object invokeMethod(Object item, Method method) {
     try {
       return method.invoke(item);
@@ -85,4 +103,28 @@ public class MethodSupport {
                   METHOD_HAS_NO_RETURN_VALUE, method.getName(), itemClass.getSimpleName());
   }
 
+  private static class MethodResultAccessor extends CompiledAccessor {
+
+    private final String methodName;
+
+    private MethodResultAccessor(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @Override
+    MemberReader compile(Object target) {
+      return compile(findMethod(methodName, target.getClass()));
+    }
+
+    @Override
+    Object readReflectively(Object target) {
+      return invokeMethod(target, findMethod(methodName, target.getClass()));
+    }
+
+    @Override
+    Object onFailure(Object target, Exception failure) {
+      throw new IllegalStateException(failure);
+    }
+  }
+
 }
@@ -15,10 +15,18 @@ package org.assertj.core.util.introspection;
 import static java.lang.String.format;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.introspection.CompiledAccessor.MemberReader;
 
 public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
+  private static final String PROPERTY_OR_FIELD_INPUT_NULL = "The object to extract property/field from should not be null";
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
 
@@ -44,7 +52,7 @@ public class PropertyOrFieldSupport {
   public Object getValueOf(String propertyOrFieldName, Object input) {
     checkArgument(propertyOrFieldName != null, "The name of the property/field to read should not be null");
     checkArgument(!propertyOrFieldName.isEmpty(), "The name of the property/field to read should not be empty");
-    checkArgument(input != null, "The object to extract property/field from should not be null");
+    checkArgument(input != null, PROPERTY_OR_FIELD_INPUT_NULL);
 
     if (isNested(propertyOrFieldName)) {
       String firstPropertyName = popNameFrom(propertyOrFieldName);
@@ -63,22 +71,61 @@ public class PropertyOrFieldSupport {
       return propertySupport.propertyValueOf(propertyOrFieldName, Object.class, input);
     } catch (IntrospectionError propertyIntrospectionError) {
       // no luck with properties, let's try fields
-      try {
-        return fieldSupport.fieldValue(propertyOrFieldName, Object.class, input);
-      } catch (IntrospectionError fieldIntrospectionError) {
-        // no field nor property found with given name, it is considered as an error
-        String message = format("%nCan't find any field or property with name '%s'.%n" +
-                                "Error when introspecting properties was :%n" +
-                                "- %s %n" +
-                                "Error when introspecting fields was :%n" +
-                                "- %s",
-                                propertyOrFieldName, propertyIntrospectionError.getMessage(),
-                                fieldIntrospectionError.getMessage());
-        throw new IntrospectionError(message, fieldIntrospectionError);
-      }
+      return getFieldValue(propertyOrFieldName, input, propertyIntrospectionError);
+    }
+  }
+
+  private Object getFieldValue(String propertyOrFieldName, Object input, IntrospectionError propertyIntrospectionError) {
+    try {
+      return fieldSupport.fieldValue(propertyOrFieldName, Object.class, input);
+    } catch (IntrospectionError fieldIntrospectionError) {
+      // no field nor property found with given name, it is considered as an error
+      String message = format("%nCan't find any field or property with name '%s'.%n" +
+                              "Error when introspecting properties was :%n" +
+                              "- %s %n" +
+                              "Error when introspecting fields was :%n" +
+                              "- %s",
+                              propertyOrFieldName, propertyIntrospectionError.getMessage(),
+                              fieldIntrospectionError.getMessage());
+      throw new IntrospectionError(message, fieldIntrospectionError);
     }
   }
 
+  /**
+   * Returns a function extracting the given property or field like {@link #getValueOf(String, Object)} does, except
+   * that the getter or field of each nested property or field is resolved once per class, getters being then called
+   * directly through a {@link java.lang.invoke.LambdaMetafactory} generated class when possible.
+   * <p>
+   * Getters and fields are resolved when first reading an instance of a given class, the function is thus meant to be
+   * used for a given extraction and not kept around (e.g. it does not see later calls to
+   * {@link #setAllowUsingPrivateFields(boolean)}).
+   *
+   * @param propertyOrFieldName the name of the property or field to extract, it may be a nested one.
+   * @return a function extracting the given property or field.
+   * @throws IllegalArgumentException if the given name is {@code null} or empty.
+   */
+  public Function<Object, Object> compiledExtractorOf(String propertyOrFieldName) {
+    checkArgument(propertyOrFieldName != null, "The name of the property/field to read should not be null");
+    checkArgument(!propertyOrFieldName.isEmpty(), "The name of the property/field to read should not be empty");
+    List<PropertyOrFieldAccessor> accessors = new ArrayList<>();
+    String remainingNames = propertyOrFieldName;
+    while (isNested(remainingNames)) {
+      accessors.add(new PropertyOrFieldAccessor(popNameFrom(remainingNames)));
+      remainingNames = nextNameFrom(remainingNames);
+    }
+    accessors.add(new PropertyOrFieldAccessor(remainingNames));
+    return input -> {
+      checkArgument(input != null, PROPERTY_OR_FIELD_INPUT_NULL);
+      Object value = input;
+      for (PropertyOrFieldAccessor accessor : accessors) {
+        // when one of the intermediate nested property/field value is null, return null
+        if (value == null) return null;
+        value = accessor.apply(value);
+      }
+      return value;
+    };
+  }
+
   private String popNameFrom(String propertyOrFieldNameChain) {
     if (!isNested(propertyOrFieldNameChain)) return propertyOrFieldNameChain;
     return propertyOrFieldNameChain.substring(0, propertyOrFieldNameChain.indexOf(SEPARATOR));
@@ -95,4 +142,46 @@ public class PropertyOrFieldSupport {
            && !propertyOrFieldName.endsWith(SEPARATOR);
   }
 
+  /**
+   * Compiled {@link #getSimpleValue(String, Object)}: the property getter if there is one, the field otherwise.
+   */
+  private class PropertyOrFieldAccessor extends CompiledAccessor {
+
+    private final String name;
+
+    private PropertyOrFieldAccessor(String name) {
+      this.name = name;
+    }
+
+    @Override
+    MemberReader compile(Object target) {
+      try {
+        return compile(Introspection.getPropertyGetter(name, target));
+      } catch (IntrospectionError propertyIntrospectionError) {
+        // the getter exists but failed for this target, it may work for the next one
+        if (propertyIntrospectionError.getCause() instanceof InvocationTargetException) return null;
+      }
+      try {
+        Field field = FieldUtils.getField(target.getClass(), name, fieldSupport.isAllowedToUsePrivateFields());
+        return field == null ? notCompilable() : compile(field);
+      } catch (IllegalAccessException | IllegalArgumentException e) {
+        return notCompilable();
+      }
+    }
+
+    @Override
+    Object readReflectively(Object target) {
+      return getSimpleValue(name, target);
+    }
+
+    @Override
+    Object onFailure(Object target, Exception failure) {
+      // the getter has failed, fall back to the field as the reflective read would have done without calling it again
+      if (failure instanceof InvocationTargetException)
+        return getFieldValue(name, target, PropertySupport.readFailure(name, target, failure));
+      // the reflective read reports the failure as it would have done in the first place
+      return getSimpleValue(name, target);
+    }
+  }
+
 }
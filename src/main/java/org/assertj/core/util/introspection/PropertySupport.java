@@ -155,11 +155,15 @@ public class PropertySupport {
                           propertyName, target, clazz);
       throw new IntrospectionError(msg, e);
     } catch (Exception unexpected) {
-      String msg = format("Unable to obtain the value of the property <'%s'> from <%s>", propertyName, target);
-      throw new IntrospectionError(msg, unexpected);
+      throw readFailure(propertyName, target, unexpected);
     }
   }
 
+  static IntrospectionError readFailure(String propertyName, Object target, Exception failure) {
+    String msg = format("Unable to obtain the value of the property <'%s'> from <%s>", propertyName, target);
+    return new IntrospectionError(msg, failure);
+  }
+
   /**
    * Returns the value of the given property name given target. If the given object is {@code null}, this method will
    * return null.<br>
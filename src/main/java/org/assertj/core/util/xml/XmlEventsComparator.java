@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.util.xml;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.COMMENT;
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.PROCESSING_INSTRUCTION;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.xml.XmlStringPrettyFormatter.xmlPrettyFormat;
+
+import java.io.StringReader;
+import java.util.Objects;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Compares XML strings event by event with a streaming parser to find out whether they have the same
+ * {@link XmlStringPrettyFormatter#xmlPrettyFormat(String) pretty format} without building and formatting their
+ * documents.
+ * <p>
+ * The comparison is strict: two strings are only reported as having the same pretty format when they have the same
+ * elements, attributes (in the same order), namespace declarations, texts, comments and processing instructions.
+ * The only difference allowed is whitespace only texts which the pretty formatter drops, and only if it actually drops
+ * them. Strings for which the comparison can't conclude (e.g. with CDATA sections, DTD or entity references) or having
+ * other differences must be pretty formatted to be compared.
+ */
+public final class XmlEventsComparator {
+
+  // XMLInputFactory is not thread safe, creating it is costly as it involves looking up providers
+  private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY = ThreadLocal.withInitial(() -> {
+    XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    inputFactory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+    return inputFactory;
+  });
+  private static final String CDATA_START = "<![CDATA[";
+  private static final boolean WHITESPACE_ONLY_TEXTS_ARE_NOT_FORMATTED = whitespaceOnlyTextsAreNotFormatted();
+
+  private final XMLStreamReader reader1;
+  private final XMLStreamReader reader2;
+  private final StringBuilder text1 = new StringBuilder();
+  private final StringBuilder text2 = new StringBuilder();
+
+  private XmlEventsComparator(XMLStreamReader reader1, XMLStreamReader reader2) {
+    this.reader1 = reader1;
+    this.reader2 = reader2;
+  }
+
+  /**
+   * Returns {@code true} if the given XML strings are known to have the same pretty format by comparing their parsing
+   * events, {@code false} if they have different events or if the comparison can't conclude, in which case their
+   * pretty format have to be compared.
+   *
+   * @param xml1 the first XML string.
+   * @param xml2 the second XML string.
+   * @return {@code true} if the given XML strings are known to have the same pretty format, {@code false} otherwise.
+   */
+  public static boolean haveSamePrettyFormat(String xml1, String xml2) {
+    checkArgument(xml1 != null && xml2 != null, "Expecting XML Strings not to be null");
+    // the pretty formatter keeps the XML declaration depending on the string start
+    if (xml1.startsWith("<?xml") != xml2.startsWith("<?xml")) return false;
+    // streaming parsers may report CDATA sections as plain texts while the pretty formatter keeps them
+    if (xml1.contains(CDATA_START) || xml2.contains(CDATA_START)) return false;
+    XMLStreamReader reader1 = null;
+    XMLStreamReader reader2 = null;
+    try {
+      reader1 = INPUT_FACTORY.get().createXMLStreamReader(new StringReader(xml1));
+      reader2 = INPUT_FACTORY.get().createXMLStreamReader(new StringReader(xml2));
+      return new XmlEventsComparator(reader1, reader2).haveSameEvents();
+    } catch (XMLStreamException | RuntimeException e) {
+      // let the pretty formatter report the documents that can't be parsed
+      return false;
+    } finally {
+      close(reader1);
+      close(reader2);
+    }
+  }
+
+  private boolean haveSameEvents() throws XMLStreamException {
+    if (!haveSameDeclaration()) return false;
+    while (true) {
+      int event1 = nextNonTextEvent(reader1, text1);
+      int event2 = nextNonTextEvent(reader2, text2);
+      if (!haveSameTexts() || event1 != event2) return false;
+      switch (event1) {
+      case END_DOCUMENT:
+        return true;
+      case START_ELEMENT:
+        if (!haveSameStartElement()) return false;
+        break;
+      case END_ELEMENT:
+        // names of the end and start elements are the same as documents are well-formed
+        break;
+      case COMMENT:
+        if (!reader1.getText().equals(reader2.getText())) return false;
+        break;
+      case PROCESSING_INSTRUCTION:
+        if (!reader1.getPITarget().equals(reader2.getPITarget())
+            || !Objects.equals(reader1.getPIData(), reader2.getPIData()))
+          return false;
+        break;
+      default:
+        // CDATA sections, DTD or entity references: can't conclude
+        return false;
+      }
+    }
+  }
+
+  private boolean haveSameDeclaration() {
+    return Objects.equals(reader1.getVersion(), reader2.getVersion())
+           && Objects.equals(reader1.getCharacterEncodingScheme(), reader2.getCharacterEncodingScheme())
+           && reader1.standaloneSet() == reader2.standaloneSet()
+           && reader1.isStandalone() == reader2.isStandalone();
+  }
+
+  private boolean haveSameStartElement() {
+    if (!reader1.getName().equals(reader2.getName())
+        || !Objects.equals(reader1.getPrefix(), reader2.getPrefix())
+        || reader1.getNamespaceCount() != reader2.getNamespaceCount()
+        || reader1.getAttributeCount() != reader2.getAttributeCount())
+      return false;
+    for (int i = 0; i < reader1.getNamespaceCount(); i++) {
+      if (!Objects.equals(reader1.getNamespacePrefix(i), reader2.getNamespacePrefix(i))
+          || !Objects.equals(reader1.getNamespaceURI(i), reader2.getNamespaceURI(i)))
+        return false;
+    }
+    for (int i = 0; i < reader1.getAttributeCount(); i++) {
+      // xml:space="preserve" makes the pretty formatter keep whitespace only texts
+      if ("space".equals(reader1.getAttributeLocalName(i)) && "xml".equals(reader1.getAttributePrefix(i))) return false;
+      if (!reader1.getAttributeName(i).equals(reader2.getAttributeName(i))
+          || !Objects.equals(reader1.getAttributePrefix(i), reader2.getAttributePrefix(i))
+          || !reader1.getAttributeValue(i).equals(reader2.getAttributeValue(i)))
+        return false;
+    }
+    return true;
+  }
+
+  private boolean haveSameTexts() {
+    boolean sameTexts = contentEquals(text1, text2)
+                        || WHITESPACE_ONLY_TEXTS_ARE_NOT_FORMATTED && isWhitespace(text1) && isWhitespace(text2);
+    text1.setLength(0);
+    text2.setLength(0);
+    return sameTexts;
+  }
+
+  // adjacent texts are reported in as many events as the parser wants, they are gathered in the given buffer
+  private static int nextNonTextEvent(XMLStreamReader reader, StringBuilder text) throws XMLStreamException {
+    int event = reader.next();
+    while (event == CHARACTERS || event == SPACE) {
+      text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+      event = reader.next();
+    }
+    return event == CDATA ? -1 : event;
+  }
+
+  private static boolean contentEquals(StringBuilder text1, StringBuilder text2) {
+    if (text1.length() != text2.length()) return false;
+    for (int i = 0; i < text1.length(); i++) {
+      if (text1.charAt(i) != text2.charAt(i)) return false;
+    }
+    return true;
+  }
+
+  private static boolean isWhitespace(StringBuilder text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      // XML white space characters
+      if (c != ' ' && c != '\t' && c != '\n' && c != '\r') return false;
+    }
+    return true;
+  }
+
+  private static boolean whitespaceOnlyTextsAreNotFormatted() {
+    try {
+      return xmlPrettyFormat("<a> <b> </b>\n<c/> </a>").equals(xmlPrettyFormat("<a><b/><c/></a>"))
+             && xmlPrettyFormat("<a>x<b/> <c/> </a>").equals(xmlPrettyFormat("<a>x<b/><c/></a>"));
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  private static void close(XMLStreamReader reader) {
+    if (reader == null) return;
+    try {
+      reader.close();
+    } catch (XMLStreamException e) {
+      // ignore
+    }
+  }
+}
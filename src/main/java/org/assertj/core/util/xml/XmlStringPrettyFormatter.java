@@ -39,6 +39,27 @@ public class XmlStringPrettyFormatter {
 
   private static final String FORMAT_ERROR = "Unable to format XML string";
 
+  // factories and builders are not thread safe, creating them is costly as it involves looking up providers
+  private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(() -> {
+    try {
+      return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    } catch (Exception e) {
+      throw new RuntimeException(FORMAT_ERROR, e);
+    }
+  });
+  private static final ThreadLocal<DOMImplementationLS> DOM_IMPLEMENTATION = ThreadLocal.withInitial(() -> {
+    try {
+      return (DOMImplementationLS) DOMImplementationRegistry.newInstance().getDOMImplementation("LS");
+    } catch (Exception e) {
+      throw new RuntimeException(FORMAT_ERROR, e);
+    }
+  });
+  private static final ThreadLocal<LSSerializer> SERIALIZER = ThreadLocal.withInitial(() -> {
+    LSSerializer domSerializer = DOM_IMPLEMENTATION.get().createLSSerializer();
+    domSerializer.getDomConfig().setParameter("format-pretty-print", true);
+    return domSerializer;
+  });
+
   public static String xmlPrettyFormat(String xmlStringToFormat) {
     checkArgument(xmlStringToFormat != null, "Expecting XML String not to be null");
     // convert String to an XML Document and then back to String but prettily formatted.
@@ -48,13 +69,10 @@ public class XmlStringPrettyFormatter {
   private static String prettyFormat(Document document, boolean keepXmlDeclaration) {
 
     try {
-      DOMImplementationRegistry registry = DOMImplementationRegistry.newInstance();
-      DOMImplementationLS domImplementation = (DOMImplementationLS) registry.getDOMImplementation("LS");
       Writer stringWriter = new StringWriter();
-      LSOutput formattedOutput = domImplementation.createLSOutput();
+      LSOutput formattedOutput = DOM_IMPLEMENTATION.get().createLSOutput();
       formattedOutput.setCharacterStream(stringWriter);
-      LSSerializer domSerializer = domImplementation.createLSSerializer();
-      domSerializer.getDomConfig().setParameter("format-pretty-print", true);
+      LSSerializer domSerializer = SERIALIZER.get();
       // Set this to true if the declaration is needed to be in the output.
       domSerializer.getDomConfig().setParameter("xml-declaration", keepXmlDeclaration);
       domSerializer.write(document, formattedOutput);
@@ -67,7 +85,8 @@ public class XmlStringPrettyFormatter {
   private static Document toXmlDocument(String xmlString) {
     try {
       InputSource xmlInputSource = new InputSource(new StringReader(xmlString));
-      DocumentBuilder xmlDocumentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+      DocumentBuilder xmlDocumentBuilder = DOCUMENT_BUILDER.get();
+      xmlDocumentBuilder.reset();
       return xmlDocumentBuilder.parse(xmlInputSource);
     } catch (Exception e) {
       throw new RuntimeException(FORMAT_ERROR, e);
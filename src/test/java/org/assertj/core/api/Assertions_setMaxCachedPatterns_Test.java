@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.assertj.core.internal.PatternCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class Assertions_setMaxCachedPatterns_Test {
+
+  private static final int DEFAULT_CAPACITY = PatternCache.instance().capacity();
+
+  @AfterEach
+  public void afterTest() {
+    Assertions.setMaxCachedPatterns(DEFAULT_CAPACITY);
+  }
+
+  @Test
+  public void should_set_capacity_of_the_shared_pattern_cache() {
+    // WHEN
+    Assertions.setMaxCachedPatterns(1_000);
+    // THEN
+    assertThat(PatternCache.instance().capacity()).isEqualTo(1_000);
+  }
+
+  @Test
+  public void should_fail_if_max_cached_patterns_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> Assertions.setMaxCachedPatterns(0));
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.DateUtil.newIsoDateFormat;
+import static org.assertj.core.util.DateUtil.newIsoDateTimeFormat;
+import static org.assertj.core.util.DateUtil.newIsoDateTimeWithMsFormat;
+import static org.assertj.core.util.DateUtil.newIsoDateTimeWithUtcTimeZoneFormat;
+import static org.assertj.core.util.DateUtil.newTimestampDateFormat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+public class DefaultDateParser_Test {
+
+  private static final String[] HANDLED_DATES = {
+      "2003-04-26T03:01:02.999", "2003-04-26T03:01:02.7", "2003-04-26T03:01:02.07Z", "2003-04-26 03:01:02.560",
+      "2003-04-26T03:01:02Z", "2003-04-26T03:01:02+01", "2003-04-26T03:01:02+0130", "2003-04-26T03:01:02-01:30",
+      "2003-04-26T03:01:02", "2003-04-26T03:01:02z", "2003-04-26T03:01:02.", "2003-04-26T03:01:02+1",
+      "2003-04-26", "2003-04-26T03:01", "2003-04-26 03:01:02", "2003-04-26foo", "2004-02-29T00:00:00" };
+
+  private static final String[] UNHANDLED_DATES = {
+      "2003-04-26T03:01:02.9999", "2003-04-26T03:01:021", "2003-04-261", "2003-4-26", "12003-04-26",
+      "2003-02-29", "2003-04-26T25:01:02", "2003-04-26T03:01:02+19", "1500-04-26", "2018-03-25T02:30:00",
+      "2018-10-28T02:30:00", "2003/04/26", "" };
+
+  @Test
+  public void should_parse_dates_as_default_date_formats_do() throws ParseException {
+    for (String timeZone : newArrayList("UTC", "Europe/Paris", "America/New_York", "Asia/Kolkata")) {
+      List<DateFormat> defaultDateFormats = defaultDateFormatsIn(timeZone);
+      for (String dateAsString : HANDLED_DATES) {
+        // WHEN
+        Date date = DefaultDateParser.parse(dateAsString, ZoneId.of(timeZone));
+        // THEN
+        assertThat(date).as("%s in %s", dateAsString, timeZone)
+                        .isEqualTo(parseWith(defaultDateFormats, dateAsString));
+      }
+    }
+  }
+
+  @Test
+  public void should_not_parse_dates_that_default_date_formats_have_to_parse() {
+    for (String dateAsString : UNHANDLED_DATES) {
+      // WHEN
+      Date date = DefaultDateParser.parse(dateAsString, ZoneId.of("Europe/Paris"));
+      // THEN
+      assertThat(date).as(dateAsString).isNull();
+    }
+  }
+
+  private static List<DateFormat> defaultDateFormatsIn(String timeZone) {
+    List<DateFormat> dateFormats = newArrayList(newIsoDateTimeWithMsFormat(), newTimestampDateFormat(),
+                                                newIsoDateTimeWithUtcTimeZoneFormat(), newIsoDateTimeFormat(),
+                                                newIsoDateFormat());
+    for (DateFormat dateFormat : dateFormats) {
+      dateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
+    }
+    return dateFormats;
+  }
+
+  private static Date parseWith(List<DateFormat> dateFormats, String dateAsString) throws ParseException {
+    for (DateFormat dateFormat : dateFormats) {
+      try {
+        return dateFormat.parse(dateAsString);
+      } catch (ParseException e) {
+        // try next date format
+      }
+    }
+    throw new ParseException(dateAsString, 0);
+  }
+
+}
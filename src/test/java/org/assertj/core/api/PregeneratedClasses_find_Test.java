@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import net.bytebuddy.ClassFileVersion;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link PregeneratedClasses#find(Class, String)}</code>.
+ */
+public class PregeneratedClasses_find_Test {
+
+  @Test
+  public void should_find_class_named_after_assert_class_and_suffix() {
+    // WHEN
+    Class<?> generatedClass = PregeneratedClasses.find(FixtureAssert.class, "$Generated");
+    // THEN
+    assertThat(generatedClass).isEqualTo(FixtureAssert.Generated.class);
+  }
+
+  @Test
+  public void should_return_null_if_there_is_no_class_named_after_assert_class_and_suffix() {
+    // WHEN
+    Class<?> generatedClass = PregeneratedClasses.find(FixtureAssert.class, PregeneratedClasses.SOFT_PROXY_SUFFIX);
+    // THEN
+    assertThat(generatedClass).isNull();
+  }
+
+  @Test
+  public void should_return_null_if_class_named_after_assert_class_and_suffix_does_not_extend_it() {
+    // WHEN
+    Class<?> generatedClass = PregeneratedClasses.find(FixtureAssert.class, "$Stale");
+    // THEN
+    assertThat(generatedClass).isNull();
+  }
+
+  @Test
+  public void should_name_pregenerated_classes_after_assert_class() {
+    // WHEN
+    String proxyClassName = SoftProxies.pregenerateProxyClass(StringAssert.class, ClassFileVersion.JAVA_V8)
+                                       .getTypeDescription().getName();
+    String assumptionClassName = Assumptions.pregenerateAssumptionClass(StringAssert.class, ClassFileVersion.JAVA_V8)
+                                            .getTypeDescription().getName();
+    // THEN
+    assertThat(proxyClassName).isEqualTo(StringAssert.class.getName() + PregeneratedClasses.SOFT_PROXY_SUFFIX);
+    assertThat(assumptionClassName).isEqualTo(StringAssert.class.getName() + PregeneratedClasses.ASSUMPTION_SUFFIX);
+  }
+
+  public static class FixtureAssert extends AbstractAssert<FixtureAssert, Object> {
+
+    public FixtureAssert(Object actual) {
+      super(actual, FixtureAssert.class);
+    }
+
+    public static class Generated extends FixtureAssert {
+
+      public Generated(Object actual) {
+        super(actual);
+      }
+    }
+
+    public static class Stale {
+    }
+  }
+
+}
@@ -787,6 +787,95 @@ public class SoftAssertionsTest extends BaseAssertionsTest {
     assertThat(softly.errorsCollected()).hasSize(4);
   }
 
+  @Test
+  public void should_collect_errors_after_a_proxied_call_has_thrown_an_exception() {
+    // GIVEN
+    RuntimeException boom = new RuntimeException("boom");
+    assertThatThrownBy(() -> softly.assertThat("foo").satisfies(s -> {
+      throw boom;
+    })).isSameAs(boom);
+    // WHEN
+    softly.assertThat("foo").isEqualTo("bar");
+    softly.assertThat(true).isFalse();
+    // THEN
+    assertThat(softly.errorsCollected()).hasSize(2);
+    assertThat(softly.wasSuccess()).isFalse();
+  }
+
+  @Test
+  public void should_reuse_generated_proxy_class() {
+    assertThat(softly.assertThat("foo").getClass()).isSameAs(new SoftAssertions().assertThat("bar").getClass());
+  }
+
+  @Test
+  public void should_collect_all_errors_of_assertions_run_concurrently() {
+    // WHEN
+    IntStream.range(0, 10_000).parallel().forEach(i -> softly.assertThat(i).isNegative());
+    // THEN
+    assertThat(softly.errorsCollected()).hasSize(10_000);
+  }
+
+  @Test
+  public void should_keep_errors_of_each_thread_in_the_order_they_were_collected() throws Exception {
+    // GIVEN
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      String threadName = "thread-" + t;
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 500; i++) {
+          softly.assertThat(threadName).isEqualTo(threadName + "#" + i);
+        }
+      });
+    }
+    // WHEN
+    for (Thread thread : threads) thread.start();
+    for (Thread thread : threads) thread.join();
+    // THEN
+    List<String> messages = softly.errorsCollected().stream().map(Throwable::getMessage).collect(toList());
+    assertThat(messages).hasSize(2_000);
+    for (int t = 0; t < threads.length; t++) {
+      String expectedPrefix = "\"thread-" + t + "#";
+      List<Integer> indexes = messages.stream()
+                                      .filter(message -> message.contains(expectedPrefix))
+                                      .map(message -> message.substring(message.indexOf(expectedPrefix)
+                                                                        + expectedPrefix.length()))
+                                      .map(index -> Integer.valueOf(index.substring(0, index.indexOf('"'))))
+                                      .collect(toList());
+      assertThat(indexes).hasSize(500).isSorted();
+    }
+  }
+
+  @Test
+  public void should_group_errors_by_thread_in_the_order_threads_first_used_soft_assertions() throws Exception {
+    // GIVEN
+    softly.fail("main#1");
+    Thread thread = new Thread(() -> {
+      softly.fail("other#1");
+      softly.fail("other#2");
+    });
+    thread.start();
+    thread.join();
+    // WHEN
+    softly.fail("main#2");
+    // THEN
+    List<String> messages = softly.errorsCollected().stream().map(Throwable::getMessage).collect(toList());
+    assertThat(messages).extracting(message -> message.substring(0, message.indexOf('#') + 2))
+                        .containsExactly("main#1", "main#2", "other#1", "other#2");
+  }
+
+  @Test
+  public void should_return_success_of_last_assertion_of_the_current_thread() throws Exception {
+    // GIVEN
+    softly.assertThat(true).isTrue();
+    // WHEN
+    Thread thread = new Thread(() -> softly.assertThat(true).isFalse());
+    thread.start();
+    thread.join();
+    // THEN
+    assertThat(softly.wasSuccess()).isTrue();
+    assertThat(softly.errorsCollected()).hasSize(1);
+  }
+
   @Test
   public void check_477_bugfix() {
     // GIVEN
@@ -13,6 +13,7 @@
 package org.assertj.core.api.assumptions;
 
 import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assumptions.assumeThat;
@@ -61,4 +62,9 @@ public class Assumptions_assumeThat_Object_Test {
                                                                                                         .contains(4,
                                                                                                                   5));
   }
+
+  @Test
+  public void should_reuse_generated_assumption_class() {
+    assertThat(assumeThat(STRING_OBJECT).getClass()).isSameAs(assumeThat(new Object()).getClass());
+  }
 }
@@ -16,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.filter.Filters.filter;
 
+import java.util.List;
+
 import org.assertj.core.test.Player;
 import org.assertj.core.test.WithPlayerData;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -31,6 +33,18 @@ public class Filter_on_different_properties_Test extends WithPlayerData {
     assertThat(filteredPlayers).containsOnly(kobe);
   }
 
+  @Test
+  public void should_not_modify_filtered_elements_already_returned_when_filtering_further() {
+    // GIVEN
+    Filters<Player> filter = filter(players).with("team").equalsTo("Los Angeles Lakers");
+    List<Player> lakersPlayers = filter.get();
+    // WHEN
+    List<Player> filteredPlayers = filter.and("reboundsPerGame").equalsTo(5).get();
+    // THEN
+    assertThat(filteredPlayers).containsOnly(kobe);
+    assertThat(lakersPlayers).containsOnly(magic, kobe);
+  }
+
   @Test
   public void should_fail_if_elements_to_filter_do_not_have_one_of_the_property_or_field_used_by_filter() {
     assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> filter(players).with("reboundsPerGame")
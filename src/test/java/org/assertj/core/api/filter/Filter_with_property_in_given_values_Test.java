@@ -17,6 +17,9 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.filter.Filters.filter;
 
+import java.util.stream.IntStream;
+
+import org.assertj.core.test.Name;
 import org.assertj.core.test.Player;
 import org.assertj.core.test.WithPlayerData;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -38,6 +41,27 @@ public class Filter_with_property_in_given_values_Test extends WithPlayerData {
     assertThat(players).hasSize(4);
   }
 
+  @Test
+  public void should_filter_iterable_elements_with_property_in_given_values_of_different_types() {
+    // GIVEN
+    Object[] values = { null, new Name("Tim", "Duncan"), "Jordan", new String[] { "Kobe" }, 23 };
+    // WHEN
+    Iterable<Player> filteredPlayers = filter(players).with("name").in(values).get();
+    // THEN
+    assertThat(filteredPlayers).containsOnly(duncan);
+  }
+
+  @Test
+  public void should_filter_iterable_elements_with_property_in_many_given_values() {
+    // GIVEN
+    Object[] teams = IntStream.range(0, 10_000).mapToObj(i -> "team " + i).toArray();
+    teams[5_000] = "Chicago Bulls";
+    // WHEN
+    Iterable<Player> filteredPlayers = filter(players).with("team").in(teams).get();
+    // THEN
+    assertThat(filteredPlayers).containsOnly(jordan);
+  }
+
   @Test
   public void should_fail_if_property_to_filter_on_is_null() {
     assertThatIllegalArgumentException().isThrownBy(() -> filter(players).with(null).in("foo", "bar"))
@@ -13,6 +13,7 @@
 package org.assertj.core.error;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,4 +38,37 @@ public class ConstructorInvoker_newInstance_Test {
     assertThat(o).isInstanceOf(Exception.class);
     assertThat((Exception) o).hasMessage("Hi");
   }
+
+  @Test
+  public void should_create_a_new_Object_on_each_call() throws Exception {
+    Object first = invoker.newInstance("java.lang.Exception", new Class<?>[] { String.class }, new Object[] { "Hi" });
+    Object second = invoker.newInstance("java.lang.Exception", new Class<?>[] { String.class }, new Object[] { "Bye" });
+    assertThat(first).isNotSameAs(second);
+    assertThat((Exception) second).hasMessage("Bye");
+  }
+
+  @Test
+  public void should_fail_on_each_call_if_class_is_not_in_the_classpath() {
+    for (int i = 0; i < 2; i++) {
+      Throwable thrown = catchThrowable(() -> invoker.newInstance("org.example.Missing", new Class<?>[0]));
+      assertThat(thrown).isInstanceOf(ClassNotFoundException.class);
+    }
+  }
+
+  @Test
+  public void should_create_a_new_exception_on_each_failing_call() {
+    // WHEN
+    Throwable first = catchThrowable(() -> invoker.newInstance("org.example.Missing", new Class<?>[0]));
+    Throwable second = catchThrowable(() -> invoker.newInstance("org.example.Missing", new Class<?>[0]));
+    // THEN
+    assertThat(second).isNotSameAs(first)
+                      .hasMessage(first.getMessage());
+  }
+
+  @Test
+  public void should_fail_if_constructor_is_not_found() {
+    Throwable thrown = catchThrowable(() -> invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class },
+                                                                new Object[] { 1 }));
+    assertThat(thrown).isInstanceOf(NoSuchMethodException.class);
+  }
 }
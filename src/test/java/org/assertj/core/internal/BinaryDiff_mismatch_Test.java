@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for <code>{@link BinaryDiff#mismatch(byte[], byte[], int)}</code> and its fallback for Java 8.
+ */
+public class BinaryDiff_mismatch_Test {
+
+  @ParameterizedTest
+  @CsvSource({
+      "20, 0, 0",
+      "20, 7, 7",
+      "20, 8, 8",
+      "20, 17, 17",
+      "20, 19, 19",
+      "20, 20, -1", // diff beyond compared length
+      "5, 3, 3",
+      "0, 0, -1" })
+  public void should_return_index_of_first_different_byte(int length, int diffIndex, int expectedMismatch) {
+    // GIVEN
+    byte[] actual = new byte[21];
+    byte[] expected = new byte[21];
+    expected[diffIndex] = 1;
+    expected[20] = 2;
+    // WHEN
+    int mismatch = BinaryDiff.mismatch(actual, expected, length);
+    int mismatchByWords = BinaryDiff.mismatchByWords(actual, expected, length);
+    // THEN
+    assertThat(mismatch).isEqualTo(expectedMismatch);
+    assertThat(mismatchByWords).isEqualTo(expectedMismatch);
+  }
+
+}
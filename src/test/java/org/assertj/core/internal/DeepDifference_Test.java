@@ -21,12 +21,14 @@ import static java.lang.Math.pow;
 import static java.lang.Math.sin;
 import static java.lang.Math.tan;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.internal.ObjectsBaseTest.noFieldComparators;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.test.AlwaysEqualComparator.ALWAY_EQUALS_STRING;
 import static org.assertj.core.util.BigDecimalComparator.BIG_DECIMAL_COMPARATOR;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
+import static org.assertj.core.util.introspection.Introspection.setExtractBareNamePropertyMethods;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -48,6 +50,8 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentSkipListMap;
 
+import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.IntrospectionError;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -177,6 +181,34 @@ public class DeepDifference_Test {
     assertHaveNoDifferences(a, b, fieldComparators, defaultTypeComparators());
   }
 
+  @Test
+  public void should_match_elements_of_large_unordered_collections() {
+    // GIVEN
+    Set<Class1> a = new LinkedHashSet<>();
+    Set<Class1> b = new LinkedHashSet<>();
+    for (int i = 0; i < 20_000; i++) {
+      a.add(new Class1(i % 2 == 0, i, i));
+      b.add(new Class1(i % 2 != 0, 19_999 - i, 19_999 - i));
+    }
+    // WHEN/THEN
+    assertHaveNoDifferences(a, b);
+    b.add(new Class1(true, 0, 0));
+    a.add(new Class1(true, 0, 20_000));
+    assertHaveDifferences(a, b);
+  }
+
+  @Test
+  public void should_match_elements_of_unordered_collections_with_fields_compared_by_type_comparator() {
+    // GIVEN
+    Set<Class1> a = newLinkedHashSet(new Class1(true, 1, 1), new Class1(false, 2, 2));
+    Set<Class1> b = newLinkedHashSet(new Class1(false, 2, 20), new Class1(true, 1, 10));
+    TypeComparators typeComparators = defaultTypeComparators();
+    typeComparators.put(Integer.class, (Integer i1, Integer i2) -> 0);
+    // WHEN/THEN
+    assertHaveNoDifferences(a, b, noFieldComparators(), typeComparators);
+    assertHaveDifferences(a, b);
+  }
+
   @Test
   public void testEquivalentMaps() {
     Map<String, Integer> map1 = new LinkedHashMap<>();
@@ -323,6 +355,68 @@ public class DeepDifference_Test {
     assertThat(DeepDifference.determineDifferences(a, b, noFieldComparators(), typeComparators)).isEmpty();
   }
 
+  @Test
+  public void should_honor_private_fields_comparison_setting_changed_after_a_comparison() {
+    // GIVEN
+    WithPrivateField a = new WithPrivateField("a"), b = new WithPrivateField("b");
+    assertHaveDifferences(a, b);
+    try {
+      // WHEN
+      FieldSupport.comparison().setAllowUsingPrivateFields(false);
+      Throwable thrown = catchThrowable(() -> DeepDifference.determineDifferences(a, b, noFieldComparators(),
+                                                                                  defaultTypeComparators()));
+      // THEN
+      assertThat(thrown).isInstanceOf(IntrospectionError.class);
+    } finally {
+      FieldSupport.comparison().setAllowUsingPrivateFields(true);
+    }
+    assertHaveDifferences(a, b);
+    assertHaveNoDifferences(a, new WithPrivateField("a"));
+  }
+
+  @Test
+  public void should_report_the_path_of_a_difference_deep_in_the_compared_graphs() {
+    // GIVEN
+    Node actual = chain(1_000, "a"), other = chain(1_000, "b");
+    Map<String, Comparator<?>> comparatorByField = new HashMap<>();
+    comparatorByField.put("next.value", ALWAY_EQUALS_STRING);
+    // WHEN
+    List<DeepDifference.Difference> differences = DeepDifference.determineDifferences(actual, other, noFieldComparators(),
+                                                                                      defaultTypeComparators());
+    // THEN
+    assertThat(differences).hasSize(1);
+    List<String> expectedPath = new ArrayList<>(Collections.nCopies(999, "next"));
+    expectedPath.add("value");
+    assertThat(differences.get(0).getPath()).isEqualTo(expectedPath);
+    assertHaveNoDifferences(chain(2, "a"), chain(2, "b"), comparatorByField, defaultTypeComparators());
+  }
+
+  private static Node chain(int length, String lastValue) {
+    Node node = new Node(null, lastValue);
+    for (int i = 1; i < length; i++) {
+      node = new Node(node, "value " + i);
+    }
+    return node;
+  }
+
+  private static class Node {
+    private final Node next;
+    private final String value;
+
+    private Node(Node next, String value) {
+      this.next = next;
+      this.value = value;
+    }
+  }
+
+  private static class WithPrivateField {
+    private final String value;
+
+    private WithPrivateField(String value) {
+      this.value = value;
+    }
+  }
+
   private void assertHaveNoDifferences(Object x, Object y) {
     assertHaveNoDifferences(x, y, noFieldComparators(), defaultTypeComparators());
   }
@@ -443,6 +537,36 @@ public class DeepDifference_Test {
     map.put("yankee", 25);
   }
 
+  @Test
+  public void should_read_fields_with_the_current_getter_naming_rules() {
+    // GIVEN
+    ValueHolder actual = new ValueHolder("a"), other = new ValueHolder("b");
+    assertThat(DeepDifference.determineDifferences(actual, other, noFieldComparators(), defaultTypeComparators())).isEmpty();
+    try {
+      // WHEN
+      setExtractBareNamePropertyMethods(false);
+      List<DeepDifference.Difference> differences = DeepDifference.determineDifferences(actual, other, noFieldComparators(),
+                                                                                        defaultTypeComparators());
+      // THEN
+      assertThat(differences).hasSize(1);
+    } finally {
+      setExtractBareNamePropertyMethods(true);
+    }
+  }
+
+  static class ValueHolder {
+    String value;
+
+    ValueHolder(String value) {
+      this.value = value;
+    }
+
+    // read instead of the field when bare name methods are property getters
+    public String value() {
+      return "value";
+    }
+  }
+
   private void fillCollection(Collection<String> col) {
     col.add("zulu");
     col.add("alpha");
@@ -14,8 +14,11 @@ package org.assertj.core.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.IterableDiff.diffIgnoringDuplicates;
+import static org.assertj.core.internal.IterableDiff.unexpectedIgnoringDuplicates;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.Comparator;
 import java.util.List;
 
 import org.assertj.core.util.CaseInsensitiveStringComparator;
@@ -138,9 +141,145 @@ public class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  public void should_not_report_any_differences_between_two_iterables_with_elements_not_overriding_hashCode() {
+    // GIVEN
+    List<Bar> actual = newArrayList(new Bar("a"), new Bar("b"), new Bar("b"));
+    List<Bar> expected = newArrayList(new Bar("b"), new Bar("a"), new Bar("b"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  public void should_report_difference_between_two_iterables_with_elements_not_overriding_hashCode() {
+    // GIVEN
+    List<Bar> actual = newArrayList(new Bar("a"), new Bar("b"), new Bar("b"));
+    List<Bar> expected = newArrayList(new Bar("a"), new Bar("a"), new Bar("b"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly(new Bar("a"));
+    assertThat(diff.unexpected).containsExactly(new Bar("b"));
+  }
+
+  @Test
+  public void should_not_report_any_differences_between_two_iterables_of_arrays_with_same_content() {
+    // GIVEN
+    List<Object> actual = newArrayList(new int[] { 1, 2 }, new String[] { "a" }, null);
+    List<Object> expected = newArrayList(null, new String[] { "a" }, new int[] { 1, 2 });
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  public void should_report_difference_between_two_iterables_with_duplicate_elements_according_to_custom_comparison_strategy() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    actual = newArrayList("c", "a", null, "B", "a", null);
+    expected = newArrayList("b", null, "C", "C", "A");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly("C");
+    assertThat(diff.unexpected).containsExactly("a", null);
+  }
+
+  @Test
+  public void should_ignore_duplicates_when_reporting_differences_according_to_custom_comparison_strategy() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    actual = newArrayList("c", "a", null, "B", "a", null, "d");
+    expected = newArrayList("b", null, "C", "C", "A", "e");
+    // WHEN
+    IterableDiff diff = diffIgnoringDuplicates(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly("e");
+    assertThat(diff.unexpected).containsExactly("d");
+  }
+
+  @Test
+  public void should_only_report_unexpected_elements_ignoring_duplicates() {
+    // GIVEN
+    actual = newArrayList("c", "a", null, "b", "a", null, "d");
+    expected = newArrayList("b", null, "c", "c", "a", "e");
+    // WHEN
+    List<Object> unexpected = unexpectedIgnoringDuplicates(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(unexpected).containsExactly("d");
+  }
+
+  @Test
+  public void should_only_report_unexpected_elements_ignoring_duplicates_according_to_custom_comparison_strategy() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    actual = newArrayList("c", "a", null, "B", "a", null, "d");
+    expected = newArrayList("b", null, "C", "C", "A", "e");
+    // WHEN
+    List<Object> unexpected = unexpectedIgnoringDuplicates(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(unexpected).containsExactly("d");
+  }
+
+  @Test
+  public void should_not_report_any_differences_with_a_comparator_not_defining_a_total_order() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy((Comparator<String>) (s1, s2) -> s1.equalsIgnoreCase(s2)
+        ? 0
+        : 1);
+    actual = newArrayList("a", "b", "c", "d");
+    expected = newArrayList("D", "C", "B", "A");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  public void should_report_difference_with_a_comparator_not_able_to_compare_elements_of_the_same_iterable() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy((Comparator<Object>) (o1, o2) -> {
+      if (o1.getClass() == o2.getClass()) throw new IllegalStateException("should not compare " + o1 + " and " + o2);
+      return o1.toString().compareTo(o2.toString());
+    });
+    List<Object> actual = newArrayList("1", "2", "3");
+    List<Object> expected = newArrayList(3, 1, 4);
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly(4);
+    assertThat(diff.unexpected).containsExactly("2");
+  }
+
   private class Foo {
   }
 
+  // equals without hashCode on purpose
+  private static class Bar {
+    private final String name;
+
+    private Bar(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Bar && ((Bar) obj).name.equals(name);
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
   private static void assertThatNoDiff(IterableDiff diff) {
     assertThat(diff.differencesFound()).isFalse();
     assertThat(diff.missing).isEmpty();
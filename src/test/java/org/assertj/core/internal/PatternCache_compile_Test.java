@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link PatternCache#compile(String, int)}</code>.
+ */
+public class PatternCache_compile_Test {
+
+  private final PatternCache patternCache = new PatternCache(2);
+
+  @Test
+  public void should_compile_regex_once() {
+    // WHEN
+    Pattern pattern = patternCache.compile("Fr.do");
+    Pattern cachedPattern = patternCache.compile("Fr.do");
+    // THEN
+    assertThat(pattern.pattern()).isEqualTo("Fr.do");
+    assertThat(cachedPattern).isSameAs(pattern);
+    assertThat(patternCache.missCount()).isEqualTo(1);
+    assertThat(patternCache.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_cache_patterns_by_regex_and_flags() {
+    // WHEN
+    Pattern pattern = patternCache.compile("frodo");
+    Pattern caseInsensitivePattern = patternCache.compile("frodo", CASE_INSENSITIVE);
+    // THEN
+    assertThat(caseInsensitivePattern).isNotSameAs(pattern);
+    assertThat(caseInsensitivePattern.flags()).isEqualTo(CASE_INSENSITIVE);
+    assertThat(patternCache.compile("frodo", CASE_INSENSITIVE)).isSameAs(caseInsensitivePattern);
+    assertThat(patternCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_evict_least_recently_used_pattern_when_full() {
+    // GIVEN
+    Pattern frodo = patternCache.compile("Frodo");
+    Pattern sam = patternCache.compile("Sam");
+    patternCache.compile("Frodo");
+    // WHEN
+    patternCache.compile("Merry");
+    // THEN
+    assertThat(patternCache.size()).isEqualTo(2);
+    assertThat(patternCache.compile("Frodo")).isSameAs(frodo);
+    assertThat(patternCache.compile("Sam")).isNotSameAs(sam);
+    assertThat(patternCache.missCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void should_not_cache_invalid_regex() {
+    // WHEN
+    Throwable error = catchThrowable(() -> patternCache.compile("*"));
+    // THEN
+    assertThat(error).isInstanceOf(PatternSyntaxException.class);
+    assertThat(patternCache.size()).isZero();
+  }
+
+  @Test
+  public void should_reset_counts_when_cleared() {
+    // GIVEN
+    patternCache.compile("Frodo");
+    patternCache.compile("Frodo");
+    // WHEN
+    patternCache.clear();
+    // THEN
+    assertThat(patternCache.size()).isZero();
+    assertThat(patternCache.hitCount()).isZero();
+    assertThat(patternCache.missCount()).isZero();
+  }
+
+  @Test
+  public void should_evict_least_recently_used_patterns_when_capacity_is_reduced() {
+    // GIVEN
+    patternCache.setCapacity(3);
+    Pattern frodo = patternCache.compile("Frodo");
+    Pattern sam = patternCache.compile("Sam");
+    Pattern merry = patternCache.compile("Merry");
+    patternCache.compile("Frodo");
+    // WHEN
+    patternCache.setCapacity(1);
+    // THEN
+    assertThat(patternCache.capacity()).isEqualTo(1);
+    assertThat(patternCache.size()).isEqualTo(1);
+    assertThat(patternCache.compile("Frodo")).isSameAs(frodo);
+    assertThat(patternCache.compile("Sam")).isNotSameAs(sam);
+    assertThat(patternCache.compile("Merry")).isNotSameAs(merry);
+  }
+
+  @Test
+  public void should_keep_more_patterns_when_capacity_is_increased() {
+    // GIVEN
+    patternCache.setCapacity(3);
+    // WHEN
+    Pattern frodo = patternCache.compile("Frodo");
+    patternCache.compile("Sam");
+    patternCache.compile("Merry");
+    // THEN
+    assertThat(patternCache.size()).isEqualTo(3);
+    assertThat(patternCache.compile("Frodo")).isSameAs(frodo);
+  }
+
+  @Test
+  public void should_have_default_capacity_for_shared_instance() {
+    assertThat(PatternCache.instance().capacity()).isEqualTo(PatternCache.DEFAULT_CAPACITY);
+  }
+
+  @Test
+  public void should_fail_to_set_capacity_that_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> patternCache.setCapacity(0));
+  }
+
+  @Test
+  public void should_stay_within_capacity_when_patterns_are_compiled_concurrently() {
+    // GIVEN
+    patternCache.setCapacity(10);
+    // WHEN
+    IntStream.range(0, 10_000).parallel().forEach(i -> {
+      Pattern pattern = patternCache.compile("regex" + i % 100);
+      assertThat(pattern.pattern()).isEqualTo("regex" + i % 100);
+    });
+    // THEN
+    assertThat(patternCache.size()).isLessThanOrEqualTo(10);
+    assertThat(patternCache.hitCount() + patternCache.missCount()).isEqualTo(10_000);
+  }
+
+  @Test
+  public void should_fail_if_regex_is_null() {
+    assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> patternCache.compile(null));
+  }
+
+  @Test
+  public void should_fail_if_capacity_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new PatternCache(0));
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.internal.PrimitiveArrays.elementsEqualityOf;
+import static org.assertj.core.internal.PrimitiveArrays.indexOfFirstUnsortedElement;
+
+import java.lang.reflect.Array;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for <code>{@link PrimitiveArrays}</code>.
+ */
+public class PrimitiveArrays_Test {
+
+  @ParameterizedTest
+  @MethodSource("primitiveArrays")
+  public void should_compare_elements_like_the_standard_comparison_strategy_compares_boxed_elements(Object first,
+                                                                                                    Object second) {
+    // WHEN
+    ElementsEquality elementsEquality = elementsEqualityOf(first, second);
+    // THEN
+    for (int i = 0; i < Array.getLength(first); i++) {
+      for (int j = 0; j < Array.getLength(second); j++) {
+        boolean expected = StandardComparisonStrategy.instance().areEqual(Array.get(first, i), Array.get(second, j));
+        assertThat(elementsEquality.areEqual(i, j)).as("elements at %s and %s", i, j).isEqualTo(expected);
+      }
+    }
+  }
+
+  private static Stream<Arguments> primitiveArrays() {
+    return Stream.of(Arguments.of(new int[] { 1, 2, 3 }, new int[] { 3, 1 }),
+                     Arguments.of(new long[] { 1L, 2L, 3L }, new long[] { 3L, 1L }),
+                     Arguments.of(new double[] { 0.0, -0.0, Double.NaN }, new double[] { Double.NaN, 0.0 }),
+                     Arguments.of(new float[] { 0.0f, -0.0f, Float.NaN }, new float[] { Float.NaN, 0.0f }),
+                     Arguments.of(new short[] { 1, 2, 3 }, new short[] { 3, 1 }),
+                     Arguments.of(new byte[] { 1, 2, 3 }, new byte[] { 3, 1 }),
+                     Arguments.of(new char[] { 'a', 'b', 'c' }, new char[] { 'c', 'a' }),
+                     Arguments.of(new boolean[] { true, false }, new boolean[] { false }));
+  }
+
+  @Test
+  public void should_not_return_an_elements_equality_for_arrays_of_different_or_non_primitive_types() {
+    assertThat(elementsEqualityOf(new int[] { 1 }, new long[] { 1L })).isNull();
+    assertThat(elementsEqualityOf(new Integer[] { 1 }, new Integer[] { 1 })).isNull();
+    assertThat(elementsEqualityOf(new int[] { 1 }, null)).isNull();
+  }
+
+  @Test
+  public void should_return_index_of_first_unsorted_element() {
+    assertThat(indexOfFirstUnsortedElement(new int[] { 1, 2, 2, 1 })).isEqualTo(2);
+    assertThat(indexOfFirstUnsortedElement(new long[] { 1L, 2L, 3L })).isEqualTo(-1);
+    assertThat(indexOfFirstUnsortedElement(new double[] { -0.0, 0.0, Double.NaN })).isEqualTo(-1);
+    assertThat(indexOfFirstUnsortedElement(new double[] { 0.0, -0.0 })).isEqualTo(0);
+    assertThat(indexOfFirstUnsortedElement(new float[] { Float.NaN, 1.0f })).isEqualTo(0);
+    assertThat(indexOfFirstUnsortedElement(new short[] { 1, 0 })).isEqualTo(0);
+    assertThat(indexOfFirstUnsortedElement(new byte[] { 0, 1 })).isEqualTo(-1);
+    assertThat(indexOfFirstUnsortedElement(new char[] { 'a', 'c', 'b' })).isEqualTo(1);
+    assertThat(indexOfFirstUnsortedElement(new boolean[] { false, true, false })).isEqualTo(1);
+    assertThat(indexOfFirstUnsortedElement(new int[0])).isEqualTo(-1);
+  }
+
+  @Test
+  public void should_fail_to_return_index_of_first_unsorted_element_of_a_non_primitive_array() {
+    assertThatIllegalArgumentException().isThrownBy(() -> indexOfFirstUnsortedElement(new Integer[] { 1 }));
+  }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.Sequences.containsSequence;
+import static org.assertj.core.internal.Sequences.indexOfSequence;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for <code>{@link Sequences}</code>.
+ */
+public class Sequences_Test {
+
+  @ParameterizedTest
+  @CsvSource({
+      "aabaabaaab, aabaaab, 3",
+      "abcabcabd, abcabd, 3",
+      "aaaaab, aab, 3",
+      "abababab, abab, 0",
+      "abc, abcd, -1",
+      "abcabc, cba, -1",
+      "abc, c, 2"
+  })
+  public void should_return_index_of_first_occurrence_of_sequence(String actual, String sequence, int expectedIndex) {
+    // GIVEN
+    ElementsEquality elementsEquality = (i, j) -> actual.charAt(i) == sequence.charAt(j);
+    ElementsEquality sequenceElementsEquality = (i, j) -> sequence.charAt(i) == sequence.charAt(j);
+    // WHEN
+    int transitiveIndex = indexOfSequence(actual.length(), sequence.length(), elementsEquality,
+                                          sequenceElementsEquality, true);
+    int nonTransitiveIndex = indexOfSequence(actual.length(), sequence.length(), elementsEquality,
+                                             sequenceElementsEquality, false);
+    // THEN
+    assertThat(transitiveIndex).isEqualTo(nonTransitiveIndex).isEqualTo(expectedIndex);
+    assertThat(containsSequence(actual.length(), sequence.length(), elementsEquality, sequenceElementsEquality,
+                                true)).isEqualTo(expectedIndex != -1);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "0 1 2 3 3 5, 3 4 5, true",
+      "0 1 2 3 4 5, 1 1, true",
+      "0 3 6 9, 1 4 7, true",
+      "0 3 6 9, 2 8, false"
+  })
+  public void should_find_sequence_with_non_transitive_equality(String actual, String sequence, boolean expected) {
+    // GIVEN
+    int[] actualElements = toInts(actual);
+    int[] sequenceElements = toInts(sequence);
+    // equal if the difference is at most 1, not transitive
+    ElementsEquality elementsEquality = (i, j) -> Math.abs(actualElements[i] - sequenceElements[j]) <= 1;
+    ElementsEquality sequenceElementsEquality = (i, j) -> Math.abs(sequenceElements[i] - sequenceElements[j]) <= 1;
+    // WHEN
+    boolean found = containsSequence(actualElements.length, sequenceElements.length, elementsEquality,
+                                     sequenceElementsEquality, false);
+    // THEN
+    assertThat(found).isEqualTo(expected);
+  }
+
+  private static int[] toInts(String numbers) {
+    return java.util.Arrays.stream(numbers.split(" ")).mapToInt(Integer::parseInt).toArray();
+  }
+
+}
@@ -95,6 +95,22 @@ public class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  public void should_find_comparator_registered_after_a_lookup() {
+    // GIVEN
+    Comparator<I3> i3Comparator = newComparator();
+    Comparator<Bar> barComparator = newComparator();
+    typeComparators.put(I3.class, i3Comparator);
+    assertThat(typeComparators.get(Foo.class)).isEqualTo(i3Comparator);
+    assertThat(typeComparators.get(I5.class)).isNull();
+    // WHEN
+    typeComparators.put(Bar.class, barComparator);
+    typeComparators.put(I1.class, newComparator());
+    // THEN
+    assertThat(typeComparators.get(Foo.class)).isEqualTo(barComparator);
+    assertThat(typeComparators.get(I5.class)).isNotNull();
+  }
+
   @Test
   public void should_be_empty() {
     typeComparators.typeComparators.clear();
@@ -14,11 +14,14 @@ package org.assertj.core.internal.files;
 
 import static java.lang.String.format;
 import static java.nio.charset.Charset.defaultCharset;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.util.Arrays.array;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.MalformedInputException;
 import java.util.List;
 
 import org.assertj.core.internal.Diff;
@@ -65,6 +68,22 @@ public class Diff_diff_File_Test {
     assertThat(diffs).isEmpty();
   }
 
+  @Test
+  public void should_return_empty_diff_list_if_files_only_differ_by_line_separators() throws IOException {
+    java.nio.file.Files.write(actual.toPath(), "line0\nline1".getBytes(UTF_8));
+    java.nio.file.Files.write(expected.toPath(), "line0\r\nline1".getBytes(UTF_8));
+    List<Delta<String>> diffs = diff.diff(actual, UTF_8, expected, UTF_8);
+    assertThat(diffs).isEmpty();
+  }
+
+  @Test
+  public void should_report_malformed_input_of_binary_identical_files() throws IOException {
+    byte[] notUtf8 = { (byte) 0xFE, (byte) 0xFF };
+    java.nio.file.Files.write(actual.toPath(), notUtf8);
+    java.nio.file.Files.write(expected.toPath(), notUtf8);
+    assertThatExceptionOfType(MalformedInputException.class).isThrownBy(() -> diff.diff(actual, UTF_8, expected, UTF_8));
+  }
+
   @Test
   public void should_return_diffs_if_files_do_not_have_equal_content() throws IOException {
     writer.write(actual, "line_0", "line_1");
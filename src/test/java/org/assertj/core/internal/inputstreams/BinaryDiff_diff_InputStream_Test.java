@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.inputstreams;
 
+import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayInputStream;
@@ -22,6 +23,9 @@ import org.assertj.core.internal.BinaryDiff;
 import org.assertj.core.internal.BinaryDiffResult;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 
 /**
@@ -79,6 +83,51 @@ public class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = { 0, 7, 8, 65_535, 65_536, 65_543, 200_000, 299_999 })
+  public void should_return_exact_offset_of_diff_in_large_inputstreams(int diffOffset) throws IOException {
+    // GIVEN
+    byte[] expectedContent = content(300_000);
+    byte[] actualContent = expectedContent.clone();
+    actualContent[diffOffset] = (byte) 0xFF;
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(new ByteArrayInputStream(actualContent),
+                                              new ByteArrayInputStream(expectedContent));
+    // THEN
+    assertThat(result.offset).isEqualTo(diffOffset);
+    assertThat(result.actual).isEqualTo("0xFF");
+    assertThat(result.expected).isEqualTo(format("0x%X", expectedContent[diffOffset]));
+  }
+
+  @ParameterizedTest
+  @CsvSource({ "131072, 131073", "131073, 131072", "0, 1", "65536, 200000" })
+  public void should_return_diff_at_end_of_shorter_large_inputstream(int actualLength, int expectedLength)
+      throws IOException {
+    // GIVEN
+    byte[] content = content(Math.max(actualLength, expectedLength));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(new ByteArrayInputStream(content, 0, actualLength),
+                                              new ByteArrayInputStream(content, 0, expectedLength));
+    // THEN
+    assertThat(result.offset).isEqualTo(Math.min(actualLength, expectedLength));
+    assertThat(actualLength < expectedLength ? result.actual : result.expected).isEqualTo("EOF");
+  }
+
+  @Test
+  public void should_return_no_diff_if_large_inputstreams_have_equal_content() throws IOException {
+    BinaryDiffResult result = binaryDiff.diff(new ByteArrayInputStream(content(131_072)),
+                                              new ByteArrayInputStream(content(131_072)));
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  private static byte[] content(int length) {
+    byte[] content = new byte[length];
+    for (int i = 0; i < length; i++) {
+      content[i] = (byte) (i % 251);
+    }
+    return content;
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
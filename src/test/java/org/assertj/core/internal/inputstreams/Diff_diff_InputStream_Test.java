@@ -123,4 +123,47 @@ public class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  public void should_report_diff_line_after_many_common_lines() throws IOException {
+    // GIVEN
+    String[] actualLines = lines(100_000);
+    String[] expectedLines = lines(100_000);
+    actualLines[99_000] = "changed";
+    actual = stream(actualLines);
+    expected = stream(expectedLines);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 99001:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line_99000\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"changed\"]%n"));
+  }
+
+  @Test
+  public void should_only_report_first_diffs_when_differing_lines_are_too_far_apart_to_be_buffered() throws IOException {
+    // GIVEN
+    String[] actualLines = lines(100_000);
+    String[] expectedLines = lines(100_000);
+    actualLines[10] = "changed";
+    actualLines[20] = "changed";
+    actualLines[90_000] = "changed";
+    actual = stream(actualLines);
+    expected = stream(expectedLines);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).extracting(delta -> delta.getOriginal().getPosition()).containsExactly(10, 20);
+  }
+
+  private static String[] lines(int count) {
+    String[] lines = new String[count];
+    for (int i = 0; i < count; i++) {
+      lines[i] = "line_" + i;
+    }
+    return lines;
+  }
 }
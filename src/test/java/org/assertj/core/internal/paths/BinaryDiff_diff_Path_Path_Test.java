@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.marschall.memoryfilesystem.MemoryFileSystemBuilder;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(Path, Path)}</code> and <code>{@link BinaryDiff#haveSameContent(Path, Path)}</code>.
+ */
+public class BinaryDiff_diff_Path_Path_Test {
+
+  private BinaryDiff binaryDiff = new BinaryDiff();
+  private Path actual;
+  private Path expected;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    actual = Files.createTempFile("actual", ".bin");
+    expected = Files.createTempFile("expected", ".bin");
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    Files.delete(actual);
+    Files.delete(expected);
+  }
+
+  @Test
+  public void should_return_no_diff_if_paths_have_equal_content() throws IOException {
+    // GIVEN
+    Files.write(actual, content(100_000));
+    Files.write(expected, content(100_000));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.hasNoDiff()).isTrue();
+    assertThat(binaryDiff.haveSameContent(actual, expected)).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 0, 8, 65_536, 99_999 })
+  public void should_return_exact_offset_of_diff(int diffOffset) throws IOException {
+    // GIVEN
+    byte[] actualContent = content(100_000);
+    actualContent[diffOffset] = (byte) 0xFF;
+    Files.write(actual, actualContent);
+    Files.write(expected, content(100_000));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(diffOffset);
+    assertThat(result.actual).isEqualTo("0xFF");
+    assertThat(binaryDiff.haveSameContent(actual, expected)).isFalse();
+  }
+
+  @Test
+  public void should_return_diff_if_actual_is_shorter() throws IOException {
+    // GIVEN
+    Files.write(actual, content(10));
+    Files.write(expected, content(11));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(10);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0xA");
+  }
+
+  @Test
+  public void should_return_diff_if_expected_is_shorter() throws IOException {
+    // GIVEN
+    Files.write(actual, content(11));
+    Files.write(expected, content(10));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(10);
+    assertThat(result.actual).isEqualTo("0xA");
+    assertThat(result.expected).isEqualTo("EOF");
+    assertThat(binaryDiff.haveSameContent(actual, expected)).isFalse();
+  }
+
+  @Test
+  public void should_read_files_reporting_a_size_of_zero() throws IOException {
+    // GIVEN
+    Path procVersion = Paths.get("/proc/version");
+    assumeTrue(Files.isReadable(procVersion) && Files.size(procVersion) == 0, "needs a file with a size of zero and content");
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(procVersion, expected);
+    // THEN
+    assertThat(result.hasNoDiff()).isFalse();
+    assertThat(binaryDiff.haveSameContent(procVersion, expected)).isFalse();
+  }
+
+  @Test
+  public void should_compare_paths_of_non_default_file_system() throws IOException {
+    try (FileSystem fs = MemoryFileSystemBuilder.newLinux().build("BinaryDiffTest")) {
+      // GIVEN
+      Path actualInMemory = Files.write(fs.getPath("/actual"), content(100));
+      Path expectedInMemory = Files.write(fs.getPath("/expected"), content(101));
+      // WHEN
+      BinaryDiffResult result = binaryDiff.diff(actualInMemory, expectedInMemory);
+      // THEN
+      assertThat(result.offset).isEqualTo(100);
+      assertThat(result.actual).isEqualTo("EOF");
+    }
+  }
+
+  private static byte[] content(int length) {
+    byte[] content = new byte[length];
+    for (int i = 0; i < length; i++) {
+      content[i] = (byte) (i % 251);
+    }
+    return content;
+  }
+
+}
@@ -61,6 +61,14 @@ public class Strings_assertContainsIgnoringCase_Test extends StringsBaseTest {
     strings.assertContainsIgnoringCase(someInfo(), "Yoda", "yo");
   }
 
+  @Test
+  public void should_pass_if_actual_contains_sequence_once_lower_cased_as_a_whole() {
+    // capital I with dot above is lower cased to i followed by a combining dot above
+    strings.assertContainsIgnoringCase(someInfo(), "\u0130stanbul", "i");
+    // final sigma is only lower cased to \u03C2 at the end of a word
+    strings.assertContainsIgnoringCase(someInfo(), "\u039F\u0394\u039F\u03A3", "\u03BF\u03C2");
+  }
+
   @Test
   public void should_fail_if_actual_does_not_contain_sequence_whatever_custom_comparison_strategy_is() {
     assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> stringsWithCaseInsensitiveComparisonStrategy.assertContainsIgnoringCase(someInfo(), "Yoda", "Luke"))
@@ -89,7 +89,8 @@ public class Strings_assertEqualsIgnoringWhitespace_Test extends StringsBaseTest
                      Arguments.of(" my\tfoo bar ", " my\tfoo bar "), // same
                      Arguments.of(null, null), // null
                      Arguments.of(" \t \t", " "),
-                     Arguments.of(" abc", "abc "));
+                     Arguments.of(" abc", "abc "),
+                     Arguments.of("my\u2028foo\u00A0bar", "myfoo\u00A0bar"));
   }
 
   private void verifyFailureThrownWhenStringsAreNotEqualIgnoringWhitespace(AssertionInfo info, String actual,
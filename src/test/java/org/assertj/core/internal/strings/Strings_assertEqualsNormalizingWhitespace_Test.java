@@ -81,6 +81,7 @@ public class Strings_assertEqualsNormalizingWhitespace_Test extends StringsBaseT
                      Arguments.of(" my\tfoo bar ", " my\tfoo bar "),   // same
                      Arguments.of(null, null),   // null
                      Arguments.of(" \t \t", " "),
-                     Arguments.of(" abc", "abc "));
+                     Arguments.of(" abc", "abc "),
+                     Arguments.of("\u2028my\u2029 foo\u0001", "my foo"));
   }
 }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.strings;
 
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.error.ShouldBeEqualIgnoringNewLineDifferences.shouldBeEqualIgnoringNewLineDifferences;
 import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
@@ -44,6 +45,29 @@ public class Strings_assertIsEqualToNormalizingNewlines_Test extends StringsBase
     strings.assertIsEqualToNormalizingNewlines(someInfo(), "\n", "\n");
   }
 
+  @Test
+  public void should_fail_if_only_one_string_has_a_carriage_return_before_a_newline() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> strings.assertIsEqualToNormalizingNewlines(someInfo(),
+                                                                                                               "\r\r\n",
+                                                                                                               "\r\n"));
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> strings.assertIsEqualToNormalizingNewlines(someInfo(),
+                                                                                                               "\r\n",
+                                                                                                               "\r\r\n"));
+  }
+
+  @Test
+  public void should_fail_if_carriage_returns_are_different_in_both_strings() {
+    String actual = "Lord of the Rings\ris cool";
+    String expected = "Lord of the Rings\nis cool";
+    try {
+      strings.assertIsEqualToNormalizingNewlines(someInfo(), actual, expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(someInfo(), shouldBeEqualIgnoringNewLineDifferences(actual, expected), actual, expected);
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   @Test
   public void should_fail_if_newlines_are_different_in_both_strings() {
     String actual = "Lord of the Rings\r\n\r\nis cool";
@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.Name;
+import org.assertj.core.util.introspection.MethodSupport;
+import org.assertj.core.util.introspection.PropertyOrFieldSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@code extracting} and {@code extractingResultOf}, which use compiled extractors, with the reflective
+ * per element extraction and with direct calls.
+ * <p>
+ * Run it with the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtractingBenchmark {
+
+  @Param({ "1000", "100000" })
+  public int size;
+
+  private List<Employee> employees;
+
+  @Setup
+  public void setup() {
+    employees = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      employees.add(new Employee(i, new Name("first" + i, "last" + i), i % 100));
+    }
+  }
+
+  @Benchmark
+  public void extracting_nested_property(Blackhole blackhole) {
+    blackhole.consume(assertThat(employees).extracting("name.first"));
+  }
+
+  @Benchmark
+  public void extracting_tuple(Blackhole blackhole) {
+    blackhole.consume(assertThat(employees).extracting("id", "age", "name.last"));
+  }
+
+  @Benchmark
+  public void extractingResultOf(Blackhole blackhole) {
+    blackhole.consume(assertThat(employees).extractingResultOf("getAge"));
+  }
+
+  @Benchmark
+  public void compiled_nested_property(Blackhole blackhole) {
+    Function<Object, Object> extractor = PropertyOrFieldSupport.EXTRACTION.compiledExtractorOf("name.first");
+    for (Employee employee : employees) {
+      blackhole.consume(extractor.apply(employee));
+    }
+  }
+
+  @Benchmark
+  public void compiled_resultOf(Blackhole blackhole) {
+    Function<Object, Object> extractor = MethodSupport.compiledMethodResultExtractorOf("getAge");
+    for (Employee employee : employees) {
+      blackhole.consume(extractor.apply(employee));
+    }
+  }
+
+  @Benchmark
+  public void reflective_nested_property(Blackhole blackhole) {
+    for (Employee employee : employees) {
+      blackhole.consume(PropertyOrFieldSupport.EXTRACTION.getValueOf("name.first", employee));
+    }
+  }
+
+  @Benchmark
+  public void reflective_resultOf(Blackhole blackhole) {
+    for (Employee employee : employees) {
+      blackhole.consume(MethodSupport.methodResultFor(employee, "getAge"));
+    }
+  }
+
+  @Benchmark
+  public void direct_nested_property(Blackhole blackhole) {
+    for (Employee employee : employees) {
+      blackhole.consume(employee.getName().getFirst());
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ExtractingBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
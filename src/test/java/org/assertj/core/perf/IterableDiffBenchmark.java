@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how {@code containsExactlyInAnyOrder} scales with the size of the compared iterables.
+ * <p>
+ * The standard comparison strategy uses the hash indexed diff whereas the comparator based one still scans the
+ * expected elements, its sizes are kept small to get results in a reasonable time.
+ * <p>
+ * Run it with the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterableDiffBenchmark {
+
+  @Param({ "1000", "10000", "200000" })
+  public int size;
+
+  private List<String> actual;
+  private List<String> expected;
+
+  @Setup
+  public void setup() {
+    actual = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      actual.add("row-" + i);
+    }
+    expected = new ArrayList<>(actual);
+    Collections.shuffle(expected, new Random(42));
+  }
+
+  @Benchmark
+  public void containsExactlyInAnyOrder_with_standard_comparison() {
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Benchmark
+  public void containsExactlyInAnyOrder_with_element_comparator() {
+    assertThat(actual).usingElementComparator(CaseInsensitiveStringComparator.instance)
+                      .containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(IterableDiffBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.util.Objects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares primitive array assertions with the reflective element access they used to rely on.
+ * <p>
+ * The {@code reflective_*} benchmarks reproduce the former {@code java.lang.reflect.Array.get} based loops, run
+ * {@link #main(String[])} to get the {@code gc.alloc.rate.norm} of each benchmark from the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveArraysBenchmark {
+
+  @Param({ "100000", "1000000" })
+  public int size;
+
+  private long[] actual;
+  private long[] prefix;
+
+  @Setup
+  public void setup() {
+    actual = new long[size];
+    for (int i = 0; i < size; i++) {
+      actual[i] = 1000L + i;
+    }
+    prefix = new long[size / 2];
+    System.arraycopy(actual, 0, prefix, 0, prefix.length);
+  }
+
+  @Benchmark
+  public void startsWith() {
+    assertThat(actual).startsWith(prefix);
+  }
+
+  @Benchmark
+  public void isSorted() {
+    assertThat(actual).isSorted();
+  }
+
+  @Benchmark
+  public void reflective_startsWith(Blackhole blackhole) {
+    boolean startsWith = true;
+    for (int i = 0; i < prefix.length; i++) {
+      if (!Objects.areEqual(Array.get(prefix, i), Array.get(actual, i))) startsWith = false;
+    }
+    blackhole.consume(startsWith);
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public void reflective_isSorted(Blackhole blackhole) {
+    Comparable<Object>[] comparables = new Comparable[size];
+    for (int i = 0; i < size; i++) {
+      comparables[i] = (Comparable<Object>) Array.get(actual, i);
+    }
+    boolean sorted = true;
+    for (int i = 0; i < size - 1; i++) {
+      if (comparables[i].compareTo(comparables[i + 1]) > 0) sorted = false;
+    }
+    blackhole.consume(sorted);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(PrimitiveArraysBenchmark.class.getSimpleName())
+                                   .addProfiler(GCProfiler.class)
+                                   .build()).run();
+  }
+
+}
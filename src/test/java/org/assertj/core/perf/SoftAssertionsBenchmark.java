@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures soft assertions run concurrently by several threads against a single {@link SoftAssertions} instance.
+ * <p>
+ * Each iteration runs a fixed batch of assertions per thread on a new {@link SoftAssertions} so that the collected
+ * errors do not pile up, run it with the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, batchSize = 10_000)
+@Measurement(iterations = 20, batchSize = 10_000)
+@Threads(4)
+@Fork(1)
+public class SoftAssertionsBenchmark {
+
+  private SoftAssertions softly;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    softly = new SoftAssertions();
+  }
+
+  @Benchmark
+  public boolean passing_assertion() {
+    softly.assertThat("foo").isEqualTo("foo");
+    return softly.wasSuccess();
+  }
+
+  @Benchmark
+  public boolean failing_assertion() {
+    softly.assertThat("foo").isEqualTo("bar");
+    return softly.wasSuccess();
+  }
+
+  @Benchmark
+  public void fail() {
+    softly.fail("boom");
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SoftAssertionsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.internal.TypeComparators;
+import org.assertj.core.util.introspection.ClassUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures comparator lookups in {@link TypeComparators}, most lookups done by field by field comparisons are misses.
+ * <p>
+ * The {@code uncached_*} benchmarks reproduce the former lookup walking the class hierarchy for each call, run it with
+ * the {@link #main(String[])} method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeComparatorsBenchmark {
+
+  private TypeComparators typeComparators;
+  private Map<Class<?>, Comparator<?>> comparatorsByClassName;
+
+  @Setup
+  public void setup() {
+    Comparator<CharSequence> charSequenceComparator = Comparator.comparing(CharSequence::toString);
+    typeComparators = defaultTypeComparators();
+    typeComparators.put(CharSequence.class, charSequenceComparator);
+    comparatorsByClassName = new TreeMap<>(Comparator.comparing(Class::getName));
+    comparatorsByClassName.put(Double.class, typeComparators.get(Double.class));
+    comparatorsByClassName.put(Float.class, typeComparators.get(Float.class));
+    comparatorsByClassName.put(CharSequence.class, charSequenceComparator);
+  }
+
+  @Benchmark
+  public Comparator<?> get_registered() {
+    return typeComparators.get(Double.class);
+  }
+
+  @Benchmark
+  public Comparator<?> get_inherited() {
+    return typeComparators.get(StringBuilder.class);
+  }
+
+  @Benchmark
+  public Comparator<?> get_missing() {
+    return typeComparators.get(Integer.class);
+  }
+
+  @Benchmark
+  public Comparator<?> uncached_get_inherited() {
+    return uncachedGet(StringBuilder.class);
+  }
+
+  @Benchmark
+  public Comparator<?> uncached_get_missing() {
+    return uncachedGet(Integer.class);
+  }
+
+  @Benchmark
+  public void object_assertion() {
+    assertThat((Object) "test").isNotNull();
+  }
+
+  private Comparator<?> uncachedGet(Class<?> clazz) {
+    Comparator<?> registered = comparatorsByClassName.get(clazz);
+    if (registered != null) return registered;
+    for (Class<?> superClass : ClassUtils.getAllSuperclasses(clazz)) {
+      Comparator<?> comparator = comparatorsByClassName.get(superClass);
+      if (comparator != null) return comparator;
+    }
+    for (Class<?> interfaceClass : ClassUtils.getAllInterfaces(clazz)) {
+      Comparator<?> comparator = comparatorsByClassName.get(interfaceClass);
+      if (comparator != null) return comparator;
+    }
+    return null;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(TypeComparatorsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -16,6 +16,8 @@ import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Strings.quote;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -195,6 +197,33 @@ public class StandardRepresentation_array_format_Test extends AbstractBaseRepres
                                                        "    ...]>"));
   }
 
+  @Test
+  public void should_format_nested_arrays_with_one_element_per_line_when_enclosing_array_does_not_fit_on_single_line() {
+    StandardRepresentation.setMaxLengthForSingleLineDescription(25);
+    Object[] array = { new Object[] { "a", "b" }, "1234567890", "1234567890" };
+    String formatted = STANDARD_REPRESENTATION.formatArray(array);
+    assertThat(formatted).isEqualTo(format("[[\"a\",%n" +
+                                           "    \"b\"],%n" +
+                                           "    \"1234567890\",%n" +
+                                           "    \"1234567890\"]"));
+  }
+
+  @Test
+  public void should_use_overridden_layout_methods() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Object[] iterable, Set<Object[]> alreadyFormatted) {
+        return format(iterable, ELEMENT_SEPARATOR, "", alreadyFormatted);
+      }
+    };
+    Object[] array = { "a", "b" };
+    // WHEN
+    String formatted = representation.formatArray(array);
+    // THEN
+    assertThat(formatted).isEqualTo("[\"a\",\"b\"]");
+  }
+
   private static class Person {
     private final String name;
 
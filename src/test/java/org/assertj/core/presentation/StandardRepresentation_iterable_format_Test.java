@@ -114,4 +114,62 @@ public class StandardRepresentation_iterable_format_Test extends AbstractBaseRep
     return Stream.generate(() -> "a").limit(length).collect(joining());
   }
 
+  @Test
+  public void should_format_each_element_once_when_switching_to_one_element_per_line() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForSingleLineDescription(25);
+    List<CountingToString> elements = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      elements.add(new CountingToString("element" + i));
+    }
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.smartFormat(elements);
+    // THEN
+    assertThat(formatted).isEqualTo(format("[element0,%n" +
+                                           "    element1,%n" +
+                                           "    element2,%n" +
+                                           "    element3,%n" +
+                                           "    element4]"));
+    assertThat(elements).extracting(element -> element.toStringCalls).containsOnly(1);
+  }
+
+  @Test
+  public void should_use_overridden_layout_methods() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return format(iterable, "<", ">", ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE);
+      }
+
+      @Override
+      protected String multiLineFormat(Iterable<?> iterable) {
+        return format(iterable, "<", ">", ELEMENT_SEPARATOR_WITH_NEWLINE, "  ");
+      }
+    };
+    String e1 = stringOfLength(StandardRepresentation.getMaxLengthForSingleLineDescription());
+    // WHEN
+    String singleLine = representation.smartFormat(asList("a", "b"));
+    String multiLine = representation.smartFormat(asList(e1, "b"));
+    // THEN
+    assertThat(singleLine).isEqualTo("<\"a\", \"b\">");
+    assertThat(multiLine).isEqualTo(format("<\"" + e1 + "\",%n" +
+                                           "  \"b\">"));
+  }
+
+  private static class CountingToString {
+    private final String description;
+    private int toStringCalls;
+
+    private CountingToString(String description) {
+      this.description = description;
+    }
+
+    @Override
+    public String toString() {
+      toStringCalls++;
+      return description;
+    }
+  }
+
 }
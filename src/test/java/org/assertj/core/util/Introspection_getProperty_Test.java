@@ -14,7 +14,9 @@ package org.assertj.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.util.introspection.Introspection.getPropertyGetter;
+import static org.assertj.core.util.introspection.Introspection.setExtractBareNamePropertyMethods;
 
 import java.lang.reflect.Method;
 
@@ -62,6 +64,71 @@ public class Introspection_getProperty_Test {
                                                        .withMessage("No public getter for property 'name' in org.assertj.core.util.Introspection_getProperty_Test$Example");
   }
 
+  @Test
+  public void should_return_the_same_getter_on_subsequent_lookups() {
+    // GIVEN
+    Method getter = getPropertyGetter("age", judy);
+    // WHEN
+    Method cachedGetter = getPropertyGetter("age", new Employee(50000.0, 42));
+    // THEN
+    assertThat(cachedGetter).isSameAs(getter);
+  }
+
+  @Test
+  public void should_raise_the_same_error_on_subsequent_lookups_of_a_missing_getter() {
+    // GIVEN
+    catchThrowable(() -> getPropertyGetter("salary", judy));
+    // WHEN
+    Throwable error = catchThrowable(() -> getPropertyGetter("salary", judy));
+    // THEN
+    assertThat(error).isInstanceOf(IntrospectionError.class)
+                     .hasMessage("No getter for property 'salary' in org.assertj.core.util.Employee");
+  }
+
+  @Test
+  public void should_find_getter_failing_for_another_instance() {
+    // GIVEN
+    catchThrowable(() -> getPropertyGetter("value", new Failing(true)));
+    // WHEN
+    Method getter = getPropertyGetter("value", new Failing(false));
+    // THEN
+    assertThat(getter.getName()).isEqualTo("getValue");
+  }
+
+  @Test
+  public void should_take_bare_name_property_methods_setting_into_account_after_a_lookup() {
+    // GIVEN
+    getPropertyGetter("name", new BareName());
+    try {
+      // WHEN
+      setExtractBareNamePropertyMethods(false);
+      // THEN
+      assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> getPropertyGetter("name", new BareName()));
+    } finally { // back to default value
+      setExtractBareNamePropertyMethods(true);
+    }
+    assertThat(getPropertyGetter("name", new BareName()).getName()).isEqualTo("name");
+  }
+
+  public static class Failing {
+    private final boolean fail;
+
+    Failing(boolean fail) {
+      this.fail = fail;
+    }
+
+    public String getValue() {
+      if (fail) throw new IllegalStateException("boom");
+      return "value";
+    }
+  }
+
+  public static class BareName {
+    public String name() {
+      return "bare";
+    }
+  }
+
   public static class Example extends Super {
   }
 
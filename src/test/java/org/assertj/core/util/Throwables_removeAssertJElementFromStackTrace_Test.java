@@ -13,6 +13,7 @@
 package org.assertj.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.StackTraceUtils.hasStackTraceElementRelatedToAssertJ;
 
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,42 @@ public class Throwables_removeAssertJElementFromStackTrace_Test {
     }
   }
 
+  @Test
+  public void should_keep_non_AssertJ_elements_in_order() {
+    // GIVEN
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(array(element("org.assertj.core.internal.Failures"),
+                                  element("com.example.Foo"),
+                                  element("org.assertj.core.api.AbstractAssert"),
+                                  element("com.example.Bar"),
+                                  element("com.example.Foo")));
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    // THEN
+    assertThat(throwable.getStackTrace()).containsExactly(element("com.example.Foo"),
+                                                          element("com.example.Bar"),
+                                                          element("com.example.Foo"));
+  }
+
+  @Test
+  public void should_keep_reflective_constructor_elements() {
+    // GIVEN
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(array(element("java.lang.reflect.Constructor"),
+                                  element("org.assertj.core.error.ConstructorInvoker"),
+                                  element("org.assertj.core.error.ShouldBeEqual"),
+                                  element("com.example.Bar")));
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    // THEN
+    assertThat(throwable.getStackTrace()).containsExactly(element("java.lang.reflect.Constructor"),
+                                                          element("com.example.Bar"));
+  }
+
+  private static StackTraceElement element(String className) {
+    return new StackTraceElement(className, "method", null, 1);
+  }
+
   private static class AssertJThrowable extends Throwable {
     private static final long serialVersionUID = 1L;
   }
@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+public class MyersDiffTest {
+
+  @Test
+  public void should_report_changes_at_their_position_after_common_prefix_and_suffix() {
+    // GIVEN
+    List<String> original = lines(10_000);
+    List<String> revised = new ArrayList<>(original);
+    revised.set(5_000, "changed");
+    // WHEN
+    Patch<String> patch = new MyersDiff<String>().diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).hasSize(1);
+    Delta<String> delta = patch.getDeltas().get(0);
+    assertThat(delta).isInstanceOf(ChangeDelta.class);
+    assertThat(delta.getOriginal()).isEqualTo(new Chunk<>(5_000, newArrayList("line 5000")));
+    assertThat(delta.getRevised()).isEqualTo(new Chunk<>(5_000, newArrayList("changed")));
+  }
+
+  @Test
+  public void should_find_each_change_of_sequences_differing_by_more_than_the_greedy_search_edit_distance() {
+    // GIVEN
+    List<String> original = lines(20_000);
+    List<String> revised = new ArrayList<>(original);
+    for (int i = 0; i < revised.size(); i += 40) {
+      revised.set(i, "changed " + i);
+    }
+    // WHEN
+    Patch<String> patch = new MyersDiff<String>().diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).hasSize(500);
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  public void should_find_a_shortest_edit_script_when_searching_in_linear_space() {
+    // GIVEN
+    Random random = new Random(42);
+    for (int run = 0; run < 20; run++) {
+      List<Character> original = randomCharacters(random, 1_000 + random.nextInt(500));
+      List<Character> revised = randomCharacters(random, 1_000 + random.nextInt(500));
+      MyersDiff<Character> myersDiff = new MyersDiff<>();
+      // WHEN
+      Patch<Character> patch = myersDiff.diff(original, revised);
+      // THEN
+      Patch<Character> greedyPatch = myersDiff.buildRevision(myersDiff.buildPath(original, revised), original, revised);
+      assertThat(editDistance(patch)).isEqualTo(editDistance(greedyPatch));
+      assertThat(patch.applyTo(original)).isEqualTo(revised);
+    }
+  }
+
+  @Test
+  public void should_report_differences_after_max_edit_distance_as_a_single_change() {
+    // GIVEN
+    List<String> original = lines(1_000);
+    List<String> revised = new ArrayList<>(original);
+    for (int i = 100; i < revised.size(); i += 100) {
+      revised.set(i, "changed " + i);
+    }
+    // WHEN
+    Patch<String> patch = new MyersDiff<String>(6, Long.MAX_VALUE).diff(original, revised);
+    // THEN
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas.size()).isBetween(2, 8);
+    assertThat(deltas.get(0).getOriginal()).isEqualTo(new Chunk<>(100, newArrayList("line 100")));
+    assertThat(deltas.get(deltas.size() - 1).getOriginal().last()).isEqualTo(900);
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  public void should_report_all_differences_as_a_single_change_when_timing_out() {
+    // GIVEN
+    List<String> original = lines(1_000);
+    List<String> revised = new ArrayList<>(original);
+    for (int i = 1; i < revised.size() - 1; i += 2) {
+      revised.set(i, "changed " + i);
+    }
+    // WHEN
+    Patch<String> patch = new MyersDiff<String>(Integer.MAX_VALUE, 0).diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).hasSize(1);
+    Delta<String> delta = patch.getDeltas().get(0);
+    assertThat(delta.getOriginal().getPosition()).isEqualTo(1);
+    assertThat(delta.getOriginal().size()).isEqualTo(997);
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  public void should_report_differences_after_default_max_edit_distance_as_a_single_change() {
+    // GIVEN
+    List<String> original = lines(3 * MyersDiff.DEFAULT_MAX_EDIT_DISTANCE);
+    List<String> revised = new ArrayList<>(original);
+    for (int i = 0; i < revised.size(); i++) {
+      revised.set(i, "changed " + i);
+    }
+    // WHEN
+    Patch<String> patch = new MyersDiff<String>().diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).hasSize(1);
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  public void should_diff_lists_without_random_access() {
+    // GIVEN
+    List<String> original = new LinkedList<>(lines(1_000));
+    List<String> revised = new LinkedList<>(original);
+    revised.remove(500);
+    // WHEN
+    Patch<String> patch = new MyersDiff<String>().diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).hasSize(1);
+    assertThat(patch.getDeltas().get(0).getOriginal()).isEqualTo(new Chunk<>(500, newArrayList("line 500")));
+  }
+
+  private static List<String> lines(int count) {
+    List<String> lines = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      lines.add("line " + i);
+    }
+    return lines;
+  }
+
+  private static List<Character> randomCharacters(Random random, int count) {
+    List<Character> characters = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      characters.add((char) ('a' + random.nextInt(4)));
+    }
+    return characters;
+  }
+
+  private static int editDistance(Patch<?> patch) {
+    int editDistance = 0;
+    for (Delta<?> delta : patch.getDeltas()) {
+      editDistance += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return editDistance;
+  }
+}
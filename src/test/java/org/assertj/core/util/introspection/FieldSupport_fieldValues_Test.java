@@ -16,6 +16,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.List;
@@ -108,6 +109,22 @@ public class FieldSupport_fieldValues_Test {
     }
   }
 
+  @Test
+  public void should_apply_allowExtractingPrivateFields_to_already_read_fields() {
+    // GIVEN
+    fieldSupport.fieldValues("age", Integer.class, employees);
+    FieldSupport.EXTRACTION.setAllowUsingPrivateFields(false);
+    try {
+      // WHEN
+      Throwable error = catchThrowable(() -> fieldSupport.fieldValues("age", Integer.class, employees));
+      // THEN
+      assertThat(error).isInstanceOf(IntrospectionError.class);
+    } finally { // back to default value
+      FieldSupport.EXTRACTION.setAllowUsingPrivateFields(true);
+    }
+    assertThat(fieldSupport.fieldValues("age", Integer.class, employees)).containsExactly(800, 26);
+  }
+
   @Test
   public void should_extract_field() {
     Long id = fieldSupport.fieldValue("id", Long.class, yoda);
@@ -15,6 +15,10 @@ package org.assertj.core.util.introspection;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
 
 import org.assertj.core.test.Person;
 import org.assertj.core.util.introspection.beans.SuperHero;
@@ -89,4 +93,42 @@ public class MethodSupport_methodResultFor_Test {
                                                      + "public method exists and accepts no arguments!");
   }
 
+  @Test
+  public void should_invoke_compiled_method_on_each_instance() {
+    // GIVEN
+    Function<Object, Object> extractor = MethodSupport.compiledMethodResultExtractorOf("getName");
+    // WHEN
+    Object batmanName = extractor.apply(batman);
+    Object jokerName = extractor.apply(joker);
+    // THEN
+    assertThat(batmanName).isEqualTo("Batman");
+    assertThat(jokerName).isEqualTo("Joker");
+  }
+
+  @Test
+  public void should_fail_meaningfully_if_compiled_method_not_found() {
+    assertThatIllegalArgumentException().isThrownBy(() -> MethodSupport.compiledMethodResultExtractorOf("commitCrime")
+                                                                       .apply(batman))
+                                        .withMessage("Can't find method 'commitCrime' in class SuperHero.class. Make sure public"
+                                                     + " method exists and accepts no arguments!");
+  }
+
+  @Test
+  public void should_fail_like_reflective_invocation_if_compiled_method_throws() {
+    // GIVEN
+    Function<Object, Object> extractor = MethodSupport.compiledMethodResultExtractorOf("fail");
+    // WHEN
+    Throwable error = catchThrowable(() -> extractor.apply(new Failing()));
+    // THEN
+    assertThat(error).isInstanceOf(IllegalStateException.class)
+                     .hasCauseInstanceOf(InvocationTargetException.class)
+                     .hasRootCauseInstanceOf(UnsupportedOperationException.class);
+  }
+
+  public static class Failing {
+    public String fail() {
+      throw new UnsupportedOperationException("boom");
+    }
+  }
+
 }
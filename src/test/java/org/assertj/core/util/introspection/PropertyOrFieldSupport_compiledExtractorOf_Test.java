@@ -0,0 +1,190 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.function.Function;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.Name;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link PropertyOrFieldSupport#compiledExtractorOf(String)}</code>, the extracted values must be the
+ * same as the ones from {@link PropertyOrFieldSupport#getValueOf(String, Object)}.
+ */
+public class PropertyOrFieldSupport_compiledExtractorOf_Test {
+
+  private final PropertyOrFieldSupport propertyOrFieldSupport = PropertyOrFieldSupport.EXTRACTION;
+
+  @Test
+  public void should_extract_property_value_from_each_input() {
+    // GIVEN
+    Function<Object, Object> extractor = propertyOrFieldSupport.compiledExtractorOf("age");
+    // WHEN
+    Object yodaAge = extractor.apply(new Employee(1L, new Name("Yoda"), 800));
+    Object lukeAge = extractor.apply(new Employee(2L, new Name("Luke"), 26));
+    // THEN
+    assertThat(yodaAge).isEqualTo(800);
+    assertThat(lukeAge).isEqualTo(26);
+  }
+
+  @Test
+  public void should_extract_nested_property_or_field_value() {
+    // GIVEN
+    Function<Object, Object> extractor = propertyOrFieldSupport.compiledExtractorOf("name.first");
+    // WHEN
+    Object firstName = extractor.apply(new Employee(1L, new Name("Yoda"), 800));
+    // THEN
+    assertThat(firstName).isEqualTo("Yoda");
+  }
+
+  @Test
+  public void should_return_null_if_an_intermediate_value_is_null() {
+    // GIVEN
+    Function<Object, Object> extractor = propertyOrFieldSupport.compiledExtractorOf("name.first");
+    // WHEN
+    Object firstName = extractor.apply(new Employee(1L, null, 800));
+    // THEN
+    assertThat(firstName).isNull();
+  }
+
+  @Test
+  public void should_resolve_property_or_field_for_each_input_class() {
+    // GIVEN
+    Function<Object, Object> extractor = propertyOrFieldSupport.compiledExtractorOf("value");
+    // WHEN
+    Object propertyValue = extractor.apply(new WithProperty());
+    Object fieldValue = extractor.apply(new WithField());
+    Object staticFieldValue = extractor.apply(new WithStaticField());
+    // THEN
+    assertThat(propertyValue).isEqualTo("property");
+    assertThat(fieldValue).isEqualTo("field");
+    assertThat(staticFieldValue).isEqualTo("static field");
+  }
+
+  @Test
+  public void should_fall_back_to_field_when_getter_fails_like_getValueOf() {
+    // GIVEN
+    Function<Object, Object> extractor = propertyOrFieldSupport.compiledExtractorOf("value");
+    extractor.apply(new FailingGetter(false));
+    FailingGetter failing = new FailingGetter(true);
+    // WHEN
+    Object value = extractor.apply(failing);
+    // THEN
+    assertThat(value).isEqualTo(propertyOrFieldSupport.getValueOf("value", failing))
+                     .isEqualTo("field");
+  }
+
+  @Test
+  public void should_call_failing_getter_once_before_falling_back_to_field() {
+    // GIVEN
+    Function<Object, Object> extractor = propertyOrFieldSupport.compiledExtractorOf("value");
+    extractor.apply(new FailingGetter(false));
+    FailingGetter failing = new FailingGetter(true);
+    // WHEN
+    extractor.apply(failing);
+    // THEN
+    assertThat(failing.getterCalls).isEqualTo(1);
+  }
+
+  @Test
+  public void should_fail_like_getValueOf_if_getter_fails_and_no_field_matches() {
+    // GIVEN
+    Function<Object, Object> extractor = propertyOrFieldSupport.compiledExtractorOf("value");
+    extractor.apply(new FailingGetterWithoutField(false));
+    FailingGetterWithoutField failing = new FailingGetterWithoutField(true);
+    // WHEN
+    Throwable error = catchThrowable(() -> extractor.apply(failing));
+    // THEN
+    assertThat(failing.getterCalls).isEqualTo(1);
+    assertThat(error).isInstanceOf(IntrospectionError.class)
+                     .hasMessage(catchThrowable(() -> propertyOrFieldSupport.getValueOf("value", failing)).getMessage());
+  }
+
+  @Test
+  public void should_fail_like_getValueOf_if_no_property_nor_field_matches() {
+    // GIVEN
+    Function<Object, Object> extractor = propertyOrFieldSupport.compiledExtractorOf("unknown");
+    WithField input = new WithField();
+    // WHEN
+    Throwable error = catchThrowable(() -> extractor.apply(input));
+    // THEN
+    assertThat(error).isInstanceOf(IntrospectionError.class)
+                     .hasMessage(catchThrowable(() -> propertyOrFieldSupport.getValueOf("unknown", input)).getMessage());
+  }
+
+  @Test
+  public void should_fail_if_name_is_empty() {
+    assertThatIllegalArgumentException().isThrownBy(() -> propertyOrFieldSupport.compiledExtractorOf(""))
+                                        .withMessage("The name of the property/field to read should not be empty");
+  }
+
+  @Test
+  public void should_fail_if_input_is_null() {
+    assertThatIllegalArgumentException().isThrownBy(() -> propertyOrFieldSupport.compiledExtractorOf("age").apply(null))
+                                        .withMessage("The object to extract property/field from should not be null");
+  }
+
+  public static class WithProperty {
+    public String getValue() {
+      return "property";
+    }
+  }
+
+  public static class WithField {
+    @SuppressWarnings("unused")
+    private final String value = "field";
+  }
+
+  public static class WithStaticField {
+    @SuppressWarnings("unused")
+    private static final String value = "static field";
+  }
+
+  public static class FailingGetter {
+    private final boolean fail;
+    @SuppressWarnings("unused")
+    private final String value = "field";
+    int getterCalls;
+
+    FailingGetter(boolean fail) {
+      this.fail = fail;
+    }
+
+    public String getValue() {
+      getterCalls++;
+      if (fail) throw new IllegalStateException("boom");
+      return "property";
+    }
+  }
+
+  public static class FailingGetterWithoutField {
+    private final boolean fail;
+    int getterCalls;
+
+    FailingGetterWithoutField(boolean fail) {
+      this.fail = fail;
+    }
+
+    public String getValue() {
+      getterCalls++;
+      if (fail) throw new IllegalStateException("boom");
+      return "property";
+    }
+  }
+
+}
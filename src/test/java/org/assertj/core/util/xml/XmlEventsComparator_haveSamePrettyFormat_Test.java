@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2018 the original author or authors.
+ */
+package org.assertj.core.util.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.xml.XmlEventsComparator.haveSamePrettyFormat;
+import static org.assertj.core.util.xml.XmlStringPrettyFormatter.xmlPrettyFormat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link XmlEventsComparator#haveSamePrettyFormat(String, String)}</code>.
+ */
+public class XmlEventsComparator_haveSamePrettyFormat_Test {
+
+  private static final String RSS = "<rss version=\"2.0\"><channel><title>Java Tutorials</title></channel></rss>";
+
+  @Test
+  public void should_return_true_for_documents_only_differing_by_whitespace_only_texts() {
+    // GIVEN
+    String indentedRss = String.format("<rss version=\"2.0\">%n  <channel>%n    <title>Java Tutorials</title>%n"
+                                       + "  </channel>%n</rss>%n");
+    // WHEN/THEN
+    assertThat(haveSamePrettyFormat(RSS, indentedRss)).isTrue();
+    assertThat(xmlPrettyFormat(RSS)).isEqualTo(xmlPrettyFormat(indentedRss));
+  }
+
+  @Test
+  public void should_return_true_for_documents_with_same_namespaces_comments_and_processing_instructions() {
+    // GIVEN
+    String xml1 = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><!-- c --><?pi data?><s:a xmlns:s=\"urn:s\" s:b=\"1\">x&amp;y</s:a>";
+    String xml2 = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><!-- c --><?pi data?> <s:a xmlns:s=\"urn:s\" s:b=\"1\">x&#38;y</s:a>";
+    // WHEN/THEN
+    assertThat(haveSamePrettyFormat(xml1, xml2)).isTrue();
+    assertThat(xmlPrettyFormat(xml1)).isEqualTo(xmlPrettyFormat(xml2));
+  }
+
+  @Test
+  public void should_return_false_for_documents_with_different_texts() {
+    assertThat(haveSamePrettyFormat(RSS, RSS.replace("Java Tutorials", "Java Tutorials "))).isFalse();
+    assertThat(haveSamePrettyFormat(RSS, RSS.replace("Java", "Kotlin"))).isFalse();
+  }
+
+  @Test
+  public void should_return_false_for_documents_with_different_elements_or_attributes() {
+    assertThat(haveSamePrettyFormat(RSS, RSS.replace("title", "name"))).isFalse();
+    assertThat(haveSamePrettyFormat(RSS, RSS.replace("2.0", "1.0"))).isFalse();
+    assertThat(haveSamePrettyFormat("<a b=\"1\" c=\"2\"/>", "<a c=\"2\" b=\"1\"/>")).isFalse();
+    assertThat(haveSamePrettyFormat("<a xmlns=\"urn:a\"/>", "<a/>")).isFalse();
+  }
+
+  @Test
+  public void should_return_false_when_only_one_document_has_an_xml_declaration() {
+    assertThat(haveSamePrettyFormat("<?xml version=\"1.0\"?>" + RSS, RSS)).isFalse();
+  }
+
+  @Test
+  public void should_return_false_when_comparison_can_not_conclude() {
+    assertThat(haveSamePrettyFormat("<a><![CDATA[x]]></a>", "<a><![CDATA[x]]></a>")).isFalse();
+    assertThat(haveSamePrettyFormat("<a xml:space=\"preserve\"> </a>", "<a xml:space=\"preserve\"> </a>")).isFalse();
+    assertThat(haveSamePrettyFormat("<a>", "<a>")).isFalse();
+    assertThat(haveSamePrettyFormat("<u:a/>", "<u:a/>")).isFalse();
+  }
+
+}